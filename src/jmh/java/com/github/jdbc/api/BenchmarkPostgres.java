@@ -0,0 +1,38 @@
+package com.github.jdbc.api;
+
+import com.github.jdbc.api.cache.InvalidationBus;
+import com.github.jdbc.api.cache.ResultCache;
+import com.github.jdbc.api.observation.ExecutionObserver;
+import com.github.jdbc.api.resilience.Bulkhead;
+import com.github.jdbc.api.resilience.CircuitBreaker;
+import com.github.jdbc.api.routing.ReadReplicas;
+import com.github.jdbc.api.row.OffHeapArena;
+import com.github.jdbc.api.statement.StatementCache;
+import com.github.jdbc.api.transaction.TransactionRetry;
+
+import javax.sql.DataSource;
+
+public final class BenchmarkPostgres {
+
+    private BenchmarkPostgres() {
+    }
+
+    public static Postgres create(final DataSource pool) {
+        return create(pool, Bulkhead.disabled());
+    }
+
+    public static Postgres create(final DataSource pool, final Bulkhead bulkhead) {
+        final var postgres = new Postgres();
+        postgres.pool = pool;
+        postgres.statementCache = StatementCache.disabled();
+        postgres.transactionRetry = new TransactionRetry(1, 0, 0);
+        postgres.circuitBreaker = CircuitBreaker.disabled();
+        postgres.readReplicas = ReadReplicas.none();
+        postgres.bulkhead = bulkhead;
+        postgres.executionObserver = ExecutionObserver.disabled();
+        postgres.resultCache = ResultCache.disabled();
+        postgres.invalidationBus = InvalidationBus.disabled();
+        postgres.offHeapArena = OffHeapArena.defaults();
+        return postgres;
+    }
+}
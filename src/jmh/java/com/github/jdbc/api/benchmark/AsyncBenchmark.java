@@ -0,0 +1,68 @@
+package com.github.jdbc.api.benchmark;
+
+import com.github.jdbc.api.BenchmarkPostgres;
+import com.github.jdbc.api.Postgres;
+import com.github.jdbc.api.book.consumer.BookRowMapper;
+import com.github.jdbc.api.resilience.Bulkhead;
+import com.github.jdbc.api.statement.SQL;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AsyncBenchmark {
+
+    private static final SQL SELECT_BOOKS = new SQL("SELECT * FROM book ORDER BY title");
+
+    // The virtual run fails its setup below Java 21 rather than measuring platform threads under the wrong name
+    @Param({ "platform", "virtual" })
+    String threads;
+
+    @Param({ "10000" })
+    int requests;
+
+    @Param({ "100" })
+    long latencyMicros;
+
+    private Bulkhead bulkhead;
+    private Postgres postgres;
+    private final BookRowMapper rowMapper = new BookRowMapper();
+
+    @Setup
+    public void setup() {
+        final boolean virtualThreads = "virtual".equals(this.threads);
+        // Every request is queued at once, the platform queue must hold them all
+        this.bulkhead = new Bulkhead(20, TimeUnit.MINUTES.toMillis(1), this.requests, virtualThreads, 0);
+        if (this.bulkhead.isVirtualThreads() != virtualThreads) {
+            this.bulkhead.close();
+            throw new IllegalStateException("Virtual threads are not available on Java %d."
+                    .formatted(Runtime.version().feature()));
+        }
+        this.postgres = BenchmarkPostgres.create(StubJdbc.dataSource(1), this.bulkhead);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.bulkhead.close();
+    }
+
+    @Benchmark
+    public int selectAsync() {
+        final long latencyNanos = TimeUnit.MICROSECONDS.toNanos(this.latencyMicros);
+        final var futures = new CompletableFuture<?>[this.requests];
+        for (int request = 0; request < this.requests; request++) {
+            futures[request] = this.postgres.executeAsync(() -> {
+                LockSupport.parkNanos(latencyNanos);
+                return this.postgres.select(SELECT_BOOKS, this.rowMapper);
+            }).toCompletableFuture();
+        }
+        CompletableFuture.allOf(futures).join();
+        return futures.length;
+    }
+}
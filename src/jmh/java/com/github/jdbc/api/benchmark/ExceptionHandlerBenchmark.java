@@ -0,0 +1,30 @@
+package com.github.jdbc.api.benchmark;
+
+import com.github.jdbc.api.exception.handler.PostgresExceptionHandler;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ExceptionHandlerBenchmark {
+
+    @Param({ "08006", "23505", "40001", "XX000" })
+    String sqlState;
+
+    private SQLException exception;
+
+    @Setup
+    public void setup() {
+        this.exception = new SQLException("benchmark", this.sqlState);
+    }
+
+    @Benchmark
+    public PostgresExceptionHandler newExceptionHandler() {
+        return new PostgresExceptionHandler(this.exception);
+    }
+}
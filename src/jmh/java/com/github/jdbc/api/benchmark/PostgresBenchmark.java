@@ -0,0 +1,54 @@
+package com.github.jdbc.api.benchmark;
+
+import com.github.jdbc.api.BenchmarkPostgres;
+import com.github.jdbc.api.Postgres;
+import com.github.jdbc.api.book.Book;
+import com.github.jdbc.api.book.consumer.BookRowMapper;
+import com.github.jdbc.api.statement.SQL;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PostgresBenchmark {
+
+    private static final SQL SELECT_BOOKS = new SQL("SELECT * FROM book ORDER BY title");
+    private static final SQL SELECT_BOOK = new SQL("SELECT * FROM book WHERE uuid = ?", UUID.randomUUID());
+    private static final SQL INSERT_BOOK = new SQL("""
+            INSERT INTO book (title, author, genre, publisher, publish_year, in_stock, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+            """, statement -> statement.setString("Naruto"));
+
+    @Param({ "1", "100" })
+    int rows;
+
+    private Postgres postgres;
+    private final BookRowMapper rowMapper = new BookRowMapper();
+
+    @Setup
+    public void setup() {
+        this.postgres = BenchmarkPostgres.create(StubJdbc.dataSource(this.rows));
+    }
+
+    @Benchmark
+    public List<Book> select() {
+        return this.postgres.select(SELECT_BOOKS, this.rowMapper);
+    }
+
+    @Benchmark
+    public Optional<Book> selectFirst() {
+        return this.postgres.selectFirst(SELECT_BOOK, this.rowMapper);
+    }
+
+    @Benchmark
+    public UUID insertReturningUuid() {
+        return this.postgres.insertReturningUuid(INSERT_BOOK);
+    }
+}
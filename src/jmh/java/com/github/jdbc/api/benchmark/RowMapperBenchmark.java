@@ -0,0 +1,33 @@
+package com.github.jdbc.api.benchmark;
+
+import com.github.jdbc.api.book.Book;
+import com.github.jdbc.api.book.BookRecord;
+import com.github.jdbc.api.book.BookRecordRowMapper;
+import com.github.jdbc.api.book.consumer.BookRowMapper;
+import com.github.jdbc.api.mapper.RowMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RowMapperBenchmark {
+
+    private final StubRow row = StubRow.book();
+    private final RowMapper<Book> handWrittenMapper = new BookRowMapper();
+    private final RowMapper<BookRecord> generatedMapper = new BookRecordRowMapper();
+
+    @Benchmark
+    public Book handWrittenRowMapper() throws SQLException {
+        return this.handWrittenMapper.mapRow(this.row);
+    }
+
+    @Benchmark
+    public BookRecord generatedRowMapper() throws SQLException {
+        return this.generatedMapper.mapRow(this.row);
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.jdbc.api.benchmark;
+
+import com.github.jdbc.api.row.RowSet;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RowSetBenchmark {
+
+    private RowSet rowSet;
+
+    @Setup
+    public void setup() throws SQLException {
+        this.rowSet = new RowSet(StubJdbc.bookResultSet(1));
+        this.rowSet.next();
+    }
+
+    @Benchmark
+    public Map<String, Object> map() throws SQLException {
+        return this.rowSet.map();
+    }
+}
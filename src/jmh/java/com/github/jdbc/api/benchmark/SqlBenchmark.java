@@ -0,0 +1,32 @@
+package com.github.jdbc.api.benchmark;
+
+import com.github.jdbc.api.statement.Query;
+import com.github.jdbc.api.statement.SQL;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SqlBenchmark {
+
+    private static final SQL SELECT_BOOKS = new SQL("""
+            SELECT uuid, title, author, genre, publisher, publish_year, in_stock, created_at
+              FROM book
+             WHERE in_stock = true
+             ORDER BY title
+            """);
+
+    @Benchmark
+    public String get() {
+        return SELECT_BOOKS.get();
+    }
+
+    @Benchmark
+    public String query() {
+        return new Query(SELECT_BOOKS, 10, 20).get();
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.jdbc.api.benchmark;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+final class StubJdbc {
+
+    static final List<String> BOOK_COLUMNS = List.of(
+            "uuid", "title", "author", "genre", "publisher", "publish_year", "in_stock", "created_at");
+
+    private static final Object[] BOOK_VALUES = {
+            UUID.randomUUID(), "Naruto, Vol. 1: Uzumaki Naruto", "Masashi Kishimoto", "Shonen",
+            "VIZ Media LLC", (short) 2003, true, LocalDateTime.now()
+    };
+
+    private StubJdbc() {
+    }
+
+    static DataSource dataSource(final int rows) {
+        return proxy(DataSource.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getConnection" -> connection(rows);
+            default -> defaultValue(method);
+        });
+    }
+
+    static ResultSet bookResultSet(final int rows) {
+        return resultSet(BOOK_COLUMNS, BOOK_VALUES, rows);
+    }
+
+    private static Connection connection(final int rows) {
+        return proxy(Connection.class, (proxy, method, args) -> switch (method.getName()) {
+            case "prepareStatement" -> statement(rows);
+            case "getAutoCommit" -> true;
+            case "unwrap" -> proxy;
+            default -> defaultValue(method);
+        });
+    }
+
+    private static PreparedStatement statement(final int rows) {
+        return proxy(PreparedStatement.class, (proxy, method, args) -> switch (method.getName()) {
+            case "executeQuery" -> bookResultSet(rows);
+            case "executeUpdate", "getUpdateCount" -> 1;
+            case "executeBatch" -> new int[0];
+            case "getGeneratedKeys" -> resultSet(List.of("uuid"), new Object[] { BOOK_VALUES[0] }, 1);
+            default -> defaultValue(method);
+        });
+    }
+
+    private static ResultSet resultSet(final List<String> columns, final Object[] values, final int rows) {
+        final ResultSetMetaData metaData = proxy(ResultSetMetaData.class, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "getColumnCount" -> columns.size();
+                    case "getColumnLabel", "getColumnName" -> columns.get((Integer) args[0] - 1);
+                    default -> defaultValue(method);
+                });
+        final int[] cursor = { 0 };
+        final Object[] last = { null };
+        return proxy(ResultSet.class, (proxy, method, args) -> switch (method.getName()) {
+            case "next" -> ++cursor[0] <= rows;
+            case "getMetaData" -> metaData;
+            case "findColumn" -> columns.indexOf((String) args[0]) + 1;
+            case "wasNull" -> last[0] == null;
+            case "getObject", "getShort", "getBoolean", "getInt" -> last[0] = values[(Integer) args[0] - 1];
+            case "getString" -> {
+                last[0] = values[(Integer) args[0] - 1];
+                yield last[0] != null ? last[0].toString() : null;
+            }
+            default -> defaultValue(method);
+        });
+    }
+
+    private static Object defaultValue(final Method method) {
+        final Class<?> type = method.getReturnType();
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == short.class) return (short) 0;
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(final Class<T> type, final InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(StubJdbc.class.getClassLoader(), new Class<?>[] { type }, handler);
+    }
+}
@@ -0,0 +1,172 @@
+package com.github.jdbc.api.benchmark;
+
+import com.github.jdbc.api.row.ColumnIndex;
+import com.github.jdbc.api.row.Row;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+final class StubRow implements Row {
+
+    private final ColumnIndex columnIndex;
+    private final Object[] values;
+    private boolean wasNull;
+
+    StubRow(final List<String> columnLabels, final Object... values) {
+        this.columnIndex = new ColumnIndex(columnLabels);
+        this.values = values;
+    }
+
+    static StubRow book() {
+        return new StubRow(
+                List.of("uuid", "title", "author", "genre", "publisher", "publish_year", "in_stock", "created_at"),
+                UUID.randomUUID(), "Naruto, Vol. 1: Uzumaki Naruto", "Masashi Kishimoto", "Shonen",
+                "VIZ Media LLC", (short) 2003, true, LocalDateTime.now());
+    }
+
+    @Override
+    public int findColumn(final String columnLabel) throws SQLException {
+        final int index = this.columnIndex.indexOf(columnLabel);
+        if (index == 0) {
+            throw new SQLException("Unknown column " + columnLabel);
+        }
+        return index;
+    }
+
+    private Object value(final int columnIndex) {
+        final Object value = this.values[columnIndex - 1];
+        this.wasNull = value == null;
+        return value;
+    }
+
+    @Override
+    public String getFirstString() {
+        return this.getString(1);
+    }
+
+    @Override
+    public String getString(final String columnLabel) throws SQLException {
+        return this.getString(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public String getString(final int columnIndex) {
+        return (String) this.value(columnIndex);
+    }
+
+    @Override
+    public UUID getFirstUuid() {
+        return this.getUuid(1);
+    }
+
+    @Override
+    public UUID getUuid(final String columnLabel) throws SQLException {
+        return this.getUuid(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public UUID getUuid(final int columnIndex) {
+        return (UUID) this.value(columnIndex);
+    }
+
+    @Override
+    public int getFirstInt() {
+        return this.getInt(1);
+    }
+
+    @Override
+    public int getInt(final String columnLabel) throws SQLException {
+        return this.getInt(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public int getInt(final int columnIndex) {
+        final Object value = this.value(columnIndex);
+        return value != null ? ((Number) value).intValue() : 0;
+    }
+
+    @Override
+    public short getFirstShort() {
+        return this.getShort(1);
+    }
+
+    @Override
+    public short getShort(final String columnLabel) throws SQLException {
+        return this.getShort(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public short getShort(final int columnIndex) {
+        final Object value = this.value(columnIndex);
+        return value != null ? ((Number) value).shortValue() : 0;
+    }
+
+    @Override
+    public boolean getFirstBoolean() {
+        return this.getBoolean(1);
+    }
+
+    @Override
+    public boolean getBoolean(final String columnLabel) throws SQLException {
+        return this.getBoolean(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public boolean getBoolean(final int columnIndex) {
+        final Object value = this.value(columnIndex);
+        return value != null && (Boolean) value;
+    }
+
+    @Override
+    public LocalDateTime getFirstLocalDateTime() {
+        return this.getLocalDateTime(1);
+    }
+
+    @Override
+    public LocalDateTime getLocalDateTime(final String columnLabel) throws SQLException {
+        return this.getLocalDateTime(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public LocalDateTime getLocalDateTime(final int columnIndex) {
+        return (LocalDateTime) this.value(columnIndex);
+    }
+
+    @Override
+    public LocalDate getFirstLocalDate() {
+        return this.getLocalDate(1);
+    }
+
+    @Override
+    public LocalDate getLocalDate(final String columnLabel) throws SQLException {
+        return this.getLocalDate(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public LocalDate getLocalDate(final int columnIndex) {
+        return (LocalDate) this.value(columnIndex);
+    }
+
+    @Override
+    public boolean wasNull() {
+        return this.wasNull;
+    }
+
+    @Override
+    public Map<String, Object> map() {
+        final var map = new HashMap<String, Object>();
+        final int columnCount = this.columnIndex.size();
+        for (int index = 1; index <= columnCount; index++) {
+            final Object object = this.value(index);
+            if (object == null) continue;
+            map.put(this.columnIndex.labelOf(index), object);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+}
@@ -1,26 +1,83 @@
 package com.github.jdbc.api;
 
+import com.github.jdbc.api.cache.CachePolicy;
+import com.github.jdbc.api.cache.InvalidationBus;
+import com.github.jdbc.api.cache.ResultCache;
+import com.github.jdbc.api.columnar.ColumnarFrame;
+import com.github.jdbc.api.copy.CopyBuffer;
+import com.github.jdbc.api.copy.CopyFormat;
+import com.github.jdbc.api.copy.CopyQuery;
+import com.github.jdbc.api.copy.CopyReader;
+import com.github.jdbc.api.copy.CopyRecordHandler;
+import com.github.jdbc.api.copy.CopyTable;
+import com.github.jdbc.api.copy.CopyTransfer;
+import com.github.jdbc.api.exception.DatabaseUnavailableException;
 import com.github.jdbc.api.exception.handler.PostgresExceptionHandler;
 import com.github.jdbc.api.exception.handler.PostgresWriteExceptionHandler;
 import com.github.jdbc.api.fallback.UniqueViolationQuery;
 import com.github.jdbc.api.mapper.RowMapper;
+import com.github.jdbc.api.observation.Execution;
+import com.github.jdbc.api.observation.ExecutionObserver;
+import com.github.jdbc.api.observation.Operation;
+import com.github.jdbc.api.parallel.ParallelExecution;
+import com.github.jdbc.api.parallel.ParallelQuery;
+import com.github.jdbc.api.parallel.ParallelResults;
+import com.github.jdbc.api.resilience.Bulkhead;
+import com.github.jdbc.api.resilience.CircuitBreaker;
+import com.github.jdbc.api.routing.ReadReplicas;
+import com.github.jdbc.api.row.CopyRow;
+import com.github.jdbc.api.row.OffHeapArena;
+import com.github.jdbc.api.row.OffHeapRowSet;
+import com.github.jdbc.api.row.Page;
 import com.github.jdbc.api.row.RowSet;
+import com.github.jdbc.api.row.RowStream;
+import com.github.jdbc.api.statement.Keyset;
+import com.github.jdbc.api.statement.KeysetQuery;
+import com.github.jdbc.api.statement.Pipeline;
+import com.github.jdbc.api.statement.PipelineResults;
+import com.github.jdbc.api.statement.PreparedStatementHandler;
 import com.github.jdbc.api.statement.PreparedStatementWrapper;
 import com.github.jdbc.api.statement.Query;
 import com.github.jdbc.api.statement.SQL;
+import com.github.jdbc.api.statement.StatementCache;
+import com.github.jdbc.api.transaction.RetryPolicy;
+import com.github.jdbc.api.transaction.TransactionRetry;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.transaction.RollbackException;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
 import jakarta.transaction.Transactional;
 import org.jetbrains.annotations.Nullable;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.CopyOut;
 
 import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.WritableByteChannel;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static jakarta.transaction.Transactional.TxType;
 
@@ -28,13 +85,44 @@ import static jakarta.transaction.Transactional.TxType;
 public final class Postgres {
 
     private static final String UUID_COLUMN_NAME = "uuid";
+    private static final int DEFAULT_FETCH_SIZE = 1000;
 
     @Inject
     DataSource pool;
 
+    @Inject
+    StatementCache statementCache;
+
+    @Inject
+    TransactionRetry transactionRetry;
+
+    @Inject
+    CircuitBreaker circuitBreaker;
+
+    @Inject
+    ReadReplicas readReplicas;
+
+    @Inject
+    Bulkhead bulkhead;
+
+    @Inject
+    ExecutionObserver executionObserver;
+
+    @Inject
+    ResultCache resultCache;
+
+    @Inject
+    InvalidationBus invalidationBus;
+
+    @Inject
+    OffHeapArena offHeapArena;
+
+    @Inject
+    TransactionSynchronizationRegistry transactionRegistry;
+
     @Transactional(value = TxType.SUPPORTS)
     public void execute(final SQL sql) {
-        this.execute(sql, false, this::handleDatabaseException);
+        this.execute(Operation.EXECUTE, sql, false, null);
     }
 
     @Transactional(value = TxType.MANDATORY)
@@ -44,119 +132,609 @@ public final class Postgres {
 
     @Transactional(value = TxType.MANDATORY)
     public UUID insertReturningUuid(final SQL sql, @Nullable final UniqueViolationQuery violationQuery) {
+        final Execution execution = this.executionObserver.start(Operation.INSERT_RETURNING_UUID, sql);
         try {
-            return this.executeInsertReturningUuid(sql);
+            return this.executeInsertReturningUuid(sql, execution);
         } catch (SQLException exception) {
-            this.handleDatabaseWriteException(violationQuery, exception);
+            execution.failed(exception);
+            this.handleDatabaseWriteException(violationQuery, exception, execution);
+        } finally {
+            execution.complete();
         }
         throw new RuntimeException("Cannot insert row in the database.");
     }
 
     @Transactional(value = TxType.MANDATORY)
     public int update(final SQL sql) {
-        return this.execute(sql, true, this::handleDatabaseWriteException);
+        return this.execute(Operation.UPDATE, sql, true, null);
     }
 
     @Transactional(value = TxType.MANDATORY)
     public int update(final SQL sql, final UniqueViolationQuery violationQuery) {
-        return this.execute(sql, true, exception ->
-                this.handleDatabaseWriteException(violationQuery, exception));
+        return this.execute(Operation.UPDATE, sql, true, violationQuery);
+    }
+
+    @Transactional(value = TxType.MANDATORY)
+    public int[] batch(final SQL sql, final Iterable<? extends PreparedStatementHandler> statementHandlers,
+                       final int batchSize) {
+        try {
+            return this.executeBatch(sql, statementHandlers, batchSize, null);
+        } catch (SQLException exception) {
+            this.handleDatabaseWriteException(exception);
+        }
+        throw new RuntimeException("Cannot execute the batch statement.");
+    }
+
+    @Transactional(value = TxType.MANDATORY)
+    public List<UUID> batchReturningUuid(final SQL sql,
+                                         final Iterable<? extends PreparedStatementHandler> statementHandlers,
+                                         final int batchSize) {
+        final List<UUID> generatedKeys = new ArrayList<>();
+        try {
+            this.executeBatch(sql, statementHandlers, batchSize, generatedKeys);
+            return generatedKeys;
+        } catch (SQLException exception) {
+            this.handleDatabaseWriteException(exception);
+        }
+        throw new RuntimeException("Cannot execute the batch statement.");
+    }
+
+    @Transactional(value = TxType.MANDATORY)
+    public <T> long copyIn(final CopyTable table, final Iterator<? extends T> records,
+                           final CopyRecordHandler<T> recordHandler) {
+        return this.copyIn(table, records, recordHandler, CopyFormat.TEXT);
+    }
+
+    @Transactional(value = TxType.MANDATORY)
+    public <T> long copyIn(final CopyTable table, final Iterator<? extends T> records,
+                           final CopyRecordHandler<T> recordHandler, final CopyFormat format) {
+        try (Connection connection = this.getConnection()) {
+            final CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            final CopyIn copyIn = copyManager.copyIn(table.copyFrom(format).get());
+            try {
+                final CopyBuffer buffer = CopyBuffer.allocate(format, copyIn, table.getColumns().size());
+                while (records.hasNext()) {
+                    buffer.write(records.next(), recordHandler);
+                }
+                final long rows = buffer.finish();
+                this.invalidate(connection, table.getTable());
+                return rows;
+            } catch (SQLException | RuntimeException exception) {
+                if (copyIn.isActive()) {
+                    try {
+                        copyIn.cancelCopy();
+                    } catch (SQLException cancelException) {
+                        exception.addSuppressed(cancelException);
+                    }
+                }
+                throw exception;
+            }
+        } catch (SQLException exception) {
+            this.handleDatabaseWriteException(exception);
+        }
+        throw new RuntimeException("Cannot copy the rows into the database.");
     }
 
     @Transactional(value = TxType.MANDATORY)
     public <T> Optional<T> updateReturning(final SQL sql, final RowMapper<T> rowMapper) {
-        try (Connection connection = this.pool.getConnection()) {
-            try (PreparedStatementWrapper statementWrapper = new PreparedStatementWrapper(connection, sql)) {
+        final Execution execution = this.executionObserver.start(Operation.UPDATE_RETURNING, sql);
+        try (Connection connection = this.getConnection()) {
+            execution.connected();
+            try (PreparedStatementWrapper statementWrapper = new PreparedStatementWrapper(
+                    this.statementCache, connection, sql, null, execution.parameters())) {
                 try (RowSet row = new RowSet(statementWrapper.getDelegate().executeQuery())) {
-                    if (row.next()) {
-                        final T result = rowMapper.mapRow(row);
-                        return Optional.ofNullable(result);
-                    }
-                    return Optional.empty();
+                    execution.executed();
+                    final Optional<T> result = mapFirst(row, rowMapper, execution);
+                    this.invalidate(connection, sql);
+                    return result;
                 }
             }
         } catch (SQLException exception) {
+            execution.failed(exception);
             this.handleDatabaseWriteException(exception);
+        } finally {
+            execution.complete();
         }
         throw new RuntimeException("Cannot execute the update statement.");
     }
 
+    @Transactional(value = TxType.MANDATORY)
+    public PipelineResults pipeline(final Pipeline pipeline) {
+        final SQL sql = pipeline.get();
+        try (Connection connection = this.getConnection()) {
+            try (PreparedStatementWrapper statementWrapper = new PreparedStatementWrapper(this.statementCache, connection, sql)) {
+                final PreparedStatement preparedStatement = statementWrapper.getDelegate();
+                final var results = new Object[pipeline.size()];
+                boolean resultSet = preparedStatement.execute();
+                for (int index = 0; index < results.length; index++) {
+                    final Pipeline.Step<?> step = pipeline.getStep(index);
+                    if (resultSet != step.isQuery()) {
+                        throw new IllegalStateException("The pipeline statement %d was added as %s."
+                                .formatted(index + 1, step.isQuery() ? "a query but returned no rows" : "an update but returned rows"));
+                    }
+                    if (resultSet) {
+                        try (RowSet row = new RowSet(preparedStatement.getResultSet())) {
+                            results[index] = mapRows(row, step.getRowMapper());
+                        }
+                    } else {
+                        results[index] = preparedStatement.getUpdateCount();
+                    }
+                    resultSet = preparedStatement.getMoreResults();
+                }
+                this.invalidate(connection, sql);
+                return new PipelineResults(pipeline, results);
+            }
+        } catch (SQLException exception) {
+            this.handleDatabaseWriteException(exception);
+        }
+        throw new RuntimeException("Cannot execute the pipeline.");
+    }
+
     @Transactional(value = TxType.SUPPORTS)
     public <T> Optional<T> selectFirst(final SQL sql, final RowMapper<T> rowMapper) {
         final var query = new Query(sql, 1, 0);
-        try (Connection connection = this.pool.getConnection()) {
-            try (PreparedStatementWrapper statementWrapper = new PreparedStatementWrapper(connection, query)) {
+        final Execution execution = this.executionObserver.start(Operation.SELECT_FIRST, query);
+        final ReadReplicas.Route route = this.readReplicas.route();
+        try (route; Connection connection = this.getConnection(route)) {
+            execution.connected();
+            try (PreparedStatementWrapper statementWrapper = new PreparedStatementWrapper(
+                    this.statementCache, connection, query, null, execution.parameters())) {
                 final PreparedStatement preparedStatement = statementWrapper.getDelegate();
+                execution.fetchSize(preparedStatement.getFetchSize());
                 try (RowSet row = new RowSet(preparedStatement.executeQuery())) {
-                    if (row.next()) {
-                        final T result = rowMapper.mapRow(row);
-                        return Optional.ofNullable(result);
-                    }
-                    return Optional.empty();
+                    execution.executed();
+                    return mapFirst(row, rowMapper, execution);
                 }
             }
         } catch (SQLException exception) {
-            this.handleDatabaseException(exception);
+            execution.failed(exception);
+            this.handleDatabaseException(exception, route);
+        } finally {
+            execution.complete();
         }
         throw new RuntimeException("Cannot execute the query.");
     }
 
+    // Outside a transaction the result is served from the cache until the TTL or a write to one of its tables
+    @Transactional(value = TxType.SUPPORTS)
+    public <T> Optional<T> selectFirst(final SQL sql, final RowMapper<T> rowMapper, final CachePolicy cachePolicy) {
+        return this.resultCache.get(Operation.SELECT_FIRST, sql, cachePolicy, () ->
+                this.selectFirst(sql, rowMapper));
+    }
+
     @Transactional(value = TxType.SUPPORTS)
     public <T> List<T> select(final SQL sql, final RowMapper<T> rowMapper) {
         return select(sql, rowMapper, 0, 0);
     }
 
+    @Transactional(value = TxType.SUPPORTS)
+    public <T> List<T> select(final SQL sql, final RowMapper<T> rowMapper, final CachePolicy cachePolicy) {
+        return this.resultCache.get(Operation.SELECT, sql, cachePolicy, () ->
+                Collections.unmodifiableList(this.select(sql, rowMapper, 0, 0)));
+    }
+
     @Transactional(value = TxType.SUPPORTS)
     public <T> List<T> select(final SQL sql, final RowMapper<T> rowMapper,
                               final int limit, final long offset) {
         List<T> tuples = Collections.emptyList();
-        try (Connection connection = this.pool.getConnection()) {
-            final var query = new Query(sql, limit, offset);
-            try (PreparedStatementWrapper statementWrapper = new PreparedStatementWrapper(connection, query)) {
+        final var query = new Query(sql, limit, offset);
+        final Execution execution = this.executionObserver.start(Operation.SELECT, query);
+        final ReadReplicas.Route route = this.readReplicas.route();
+        try (route; Connection connection = this.getConnection(route)) {
+            execution.connected();
+            try (PreparedStatementWrapper statementWrapper = new PreparedStatementWrapper(
+                    this.statementCache, connection, query, null, execution.parameters())) {
                 final PreparedStatement preparedStatement = statementWrapper.getDelegate();
+                execution.fetchSize(preparedStatement.getFetchSize());
                 try (RowSet row = new RowSet(preparedStatement.executeQuery())) {
+                    execution.executed();
                     if (row.next()) {
                         tuples = new ArrayList<>();
                         do {
+                            final long mapping = execution.mapping();
                             final T tuple = rowMapper.mapRow(row);
+                            execution.mapped(mapping);
                             tuples.add(tuple);
                         } while (row.next());
                     }
+                    execution.rows(tuples.size());
+                }
+            }
+        } catch (SQLException exception) {
+            execution.failed(exception);
+            this.handleDatabaseException(exception, route);
+        } finally {
+            execution.complete();
+        }
+        return tuples;
+    }
+
+    @Transactional(value = TxType.SUPPORTS)
+    public <T> Page<T> selectPage(final SQL sql, final RowMapper<T> rowMapper,
+                                  final Keyset keyset, final int limit) {
+        final var query = new KeysetQuery(sql, keyset, limit);
+        final Execution execution = this.executionObserver.start(Operation.SELECT_PAGE, query);
+        final ReadReplicas.Route route = this.readReplicas.route();
+        try (route; Connection connection = this.getConnection(route)) {
+            execution.connected();
+            try (PreparedStatementWrapper statementWrapper = new PreparedStatementWrapper(
+                    this.statementCache, connection, query, null, execution.parameters())) {
+                final PreparedStatement preparedStatement = statementWrapper.getDelegate();
+                execution.fetchSize(preparedStatement.getFetchSize());
+                try (RowSet row = new RowSet(preparedStatement.executeQuery())) {
+                    execution.executed();
+                    final List<T> items = new ArrayList<>(Math.min(limit, DEFAULT_FETCH_SIZE));
+                    while (items.size() < limit && row.next()) {
+                        final long mapping = execution.mapping();
+                        final T item = rowMapper.mapRow(row);
+                        execution.mapped(mapping);
+                        items.add(item);
+                    }
+                    execution.rows(items.size());
+                    if (items.size() < limit) {
+                        return new Page<>(items, null);
+                    }
+                    final Object[] lastKey = new Object[keyset.getColumns().size()];
+                    for (int index = 0; index < lastKey.length; index++) {
+                        lastKey[index] = row.getObject(row.findColumn(keyset.getColumns().get(index)));
+                    }
+                    return new Page<>(items, row.next() ? keyset.after(lastKey) : null);
+                }
+            }
+        } catch (SQLException exception) {
+            execution.failed(exception);
+            this.handleDatabaseException(exception, route);
+        } finally {
+            execution.complete();
+        }
+        throw new RuntimeException("Cannot execute the query.");
+    }
+
+    // Inside a transaction the rows are fetched through a cursor in chunks of the default fetch size
+    @Transactional(value = TxType.SUPPORTS)
+    public ColumnarFrame selectColumnar(final SQL sql) {
+        final Execution execution = this.executionObserver.start(Operation.SELECT_COLUMNAR, sql);
+        final ReadReplicas.Route route = this.readReplicas.route();
+        try (route; Connection connection = this.getConnection(route)) {
+            execution.connected();
+            try (PreparedStatementWrapper statementWrapper = new PreparedStatementWrapper(
+                    this.statementCache, connection, sql, null, execution.parameters())) {
+                final PreparedStatement preparedStatement = statementWrapper.getDelegate();
+                preparedStatement.setFetchSize(DEFAULT_FETCH_SIZE);
+                execution.fetchSize(DEFAULT_FETCH_SIZE);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    execution.executed();
+                    final ColumnarFrame frame = ColumnarFrame.read(resultSet);
+                    execution.rows(frame.getRowCount());
+                    return frame;
+                }
+            }
+        } catch (SQLException exception) {
+            execution.failed(exception);
+            this.handleDatabaseException(exception, route);
+        } finally {
+            execution.complete();
+        }
+        throw new RuntimeException("Cannot execute the query.");
+    }
+
+    // The rows are kept outside the heap, the caller closes the set to release them
+    @Transactional(value = TxType.SUPPORTS)
+    public OffHeapRowSet selectOffHeap(final SQL sql) {
+        final Execution execution = this.executionObserver.start(Operation.SELECT_OFF_HEAP, sql);
+        final ReadReplicas.Route route = this.readReplicas.route();
+        try (route; Connection connection = this.getConnection(route)) {
+            execution.connected();
+            // pgjdbc only honours the fetch size (cursor based fetching) outside autocommit mode,
+            // otherwise the whole result lands on the heap before it is copied off it
+            final boolean restoreAutoCommit = connection.getAutoCommit();
+            if (restoreAutoCommit) {
+                connection.setAutoCommit(false);
+            }
+            final OffHeapRowSet rowSet;
+            try (PreparedStatementWrapper statementWrapper = new PreparedStatementWrapper(
+                    this.statementCache, connection, sql, null, execution.parameters())) {
+                final PreparedStatement preparedStatement = statementWrapper.getDelegate();
+                preparedStatement.setFetchSize(DEFAULT_FETCH_SIZE);
+                execution.fetchSize(DEFAULT_FETCH_SIZE);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    execution.executed();
+                    rowSet = this.offHeapArena.read(resultSet);
+                    execution.rows(rowSet.size());
+                }
+            } catch (SQLException | RuntimeException exception) {
+                if (restoreAutoCommit) {
+                    try {
+                        connection.rollback();
+                        connection.setAutoCommit(true);
+                    } catch (SQLException rollbackException) {
+                        exception.addSuppressed(rollbackException);
+                    }
                 }
+                throw exception;
             }
+            if (restoreAutoCommit) {
+                try {
+                    connection.commit();
+                    connection.setAutoCommit(true);
+                } catch (SQLException exception) {
+                    rowSet.close();
+                    throw exception;
+                }
+            }
+            return rowSet;
+        } catch (SQLException exception) {
+            execution.failed(exception);
+            this.handleDatabaseException(exception, route);
+        } finally {
+            execution.complete();
+        }
+        throw new RuntimeException("Cannot execute the query.");
+    }
+
+    @Transactional(value = TxType.SUPPORTS)
+    public <T> Stream<T> stream(final SQL sql, final RowMapper<T> rowMapper) {
+        return this.stream(sql, rowMapper, DEFAULT_FETCH_SIZE);
+    }
+
+    @Transactional(value = TxType.SUPPORTS)
+    public <T> Stream<T> stream(final SQL sql, final RowMapper<T> rowMapper, final int fetchSize) {
+        final Connection connection;
+        try {
+            connection = this.getConnection();
         } catch (SQLException exception) {
             this.handleDatabaseException(exception);
+            throw new RuntimeException("Cannot execute the query.");
         }
+        final var rowStream = new RowStream<>(this.statementCache, connection, rowMapper, this::handleDatabaseException)
+                .open(sql, fetchSize);
+        return StreamSupport.stream(rowStream, false).onClose(rowStream::close);
+    }
+
+    @Transactional(value = TxType.SUPPORTS)
+    public <T> void forEach(final SQL sql, final RowMapper<T> rowMapper, final Consumer<? super T> consumer) {
+        try (Stream<T> rows = this.stream(sql, rowMapper)) {
+            rows.forEach(consumer);
+        }
+    }
+
+    @Transactional(value = TxType.SUPPORTS)
+    public long copyOut(final SQL sql, final CopyFormat format, final OutputStream outputStream) {
+        return this.copyOut(sql, format, reader -> reader.transferTo(outputStream));
+    }
+
+    @Transactional(value = TxType.SUPPORTS)
+    public long copyOut(final SQL sql, final CopyFormat format, final WritableByteChannel channel) {
+        return this.copyOut(sql, format, reader -> reader.transferTo(channel));
+    }
+
+    @Transactional(value = TxType.SUPPORTS)
+    public <T> List<T> copyOut(final SQL sql, final RowMapper<T> rowMapper) {
+        final List<T> tuples = new ArrayList<>();
+        this.copyOut(sql, rowMapper, tuples::add);
         return tuples;
     }
 
-    @Transactional(value = TxType.REQUIRED)
+    @Transactional(value = TxType.SUPPORTS)
+    public <T> long copyOut(final SQL sql, final RowMapper<T> rowMapper, final Consumer<? super T> consumer) {
+        try (Connection connection = this.getConnection()) {
+            final SQL copyTo = new CopyQuery(sql).copyTo(CopyFormat.TEXT);
+            final var row = new CopyRow(this.columnLabels(connection, sql));
+            return this.copyOut(connection, copyTo, reader -> reader.map(row, rowMapper, consumer));
+        } catch (SQLException exception) {
+            this.handleDatabaseException(exception);
+        }
+        throw new RuntimeException("Cannot copy the rows from the database.");
+    }
+
+    // Each query runs on its own connection, so the latency is the slowest query instead of their sum
+    @Transactional(value = TxType.NEVER)
+    public ParallelResults parallel(final Duration timeout, final ParallelQuery<?>... queries) {
+        final var execution = new ParallelExecution(queries.length);
+        final var futures = new CompletableFuture<?>[queries.length];
+        for (int index = 0; index < queries.length; index++) {
+            final int queryIndex = index;
+            futures[index] = this.bulkhead.submit(() -> this.selectParallel(queries[queryIndex], execution, queryIndex))
+                    .toCompletableFuture()
+                    .whenComplete((result, exception) -> {
+                        if (exception != null) {
+                            execution.fail(exception instanceof CompletionException ? exception.getCause() : exception);
+                        }
+                    });
+        }
+        try {
+            CompletableFuture.allOf(futures).get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException exception) {
+            execution.cancel();
+            throw new RuntimeException("Cannot execute the parallel queries within %d ms."
+                    .formatted(timeout.toMillis()), exception);
+        } catch (InterruptedException exception) {
+            execution.cancel();
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Cannot execute the parallel queries.", exception);
+        } catch (ExecutionException exception) {
+            if (execution.getFailure() instanceof RuntimeException failure) {
+                throw failure;
+            }
+            throw new RuntimeException("Cannot execute the parallel queries.", execution.getFailure());
+        }
+        final var results = new List<?>[queries.length];
+        for (int index = 0; index < queries.length; index++) {
+            results[index] = (List<?>) futures[index].join();
+        }
+        return new ParallelResults(queries, results);
+    }
+
+    // The work runs on the bulkhead executor, away from the caller's transaction
+    @Transactional(value = TxType.NEVER)
+    public <T> CompletionStage<T> executeAsync(final Supplier<T> supplier) {
+        return this.bulkhead.submit(supplier);
+    }
+
+    @Transactional(value = TxType.NEVER)
+    public <T> CompletionStage<List<T>> selectAsync(final SQL sql, final RowMapper<T> rowMapper) {
+        return this.bulkhead.submit(() -> this.select(sql, rowMapper));
+    }
+
+    @Transactional(value = TxType.NEVER)
+    public CompletionStage<Integer> updateAsync(final SQL sql) {
+        return this.bulkhead.submit(() -> this.withTransaction(() -> this.update(sql)));
+    }
+
+    @Transactional(value = TxType.NEVER)
+    public CompletionStage<UUID> insertReturningUuidAsync(final SQL sql) {
+        return this.bulkhead.submit(() -> this.withTransaction(() -> this.insertReturningUuid(sql)));
+    }
+
     public <T> T withTransaction(final Supplier<T> supplier) {
-        return supplier.get();
+        return this.observeTransaction(TxType.REQUIRED, supplier);
     }
 
-    @Transactional(value = TxType.REQUIRED)
     public void withTransaction(final Runnable runnable) {
-        runnable.run();
+        this.observeTransaction(TxType.REQUIRED, () -> {
+            runnable.run();
+            return null;
+        });
     }
 
-    @Transactional(value = TxType.REQUIRES_NEW)
     public <T> T withNewTransaction(final Supplier<T> supplier) {
-        return supplier.get();
+        return this.observeTransaction(TxType.REQUIRES_NEW, supplier);
     }
 
-    @Transactional(value = TxType.REQUIRES_NEW)
     public void withNewTransaction(final Runnable runnable) {
-        runnable.run();
+        this.observeTransaction(TxType.REQUIRES_NEW, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    // Each attempt gets its own transaction, an outer one would already be aborted by the failure.
+    // The caller opts in per call, RetryPolicy.idempotent() states the work is safe to run again
+    @Transactional(value = TxType.NEVER)
+    public <T> T withRetryingTransaction(final RetryPolicy retryPolicy, final Supplier<T> supplier) {
+        for (int attempt = 1; ; attempt++) {
+            this.transactionRetry.attempt();
+            try {
+                return this.withNewTransaction(supplier);
+            } catch (Exception exception) {
+                // A failed commit can surface as the transaction manager's checked RollbackException
+                if (!this.transactionRetry.shouldRetry(exception, attempt, retryPolicy)) {
+                    throw exception;
+                }
+                try {
+                    this.transactionRetry.backoff(attempt);
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    throw exception;
+                }
+            }
+        }
+    }
+
+    @Transactional(value = TxType.NEVER)
+    public void withRetryingTransaction(final RetryPolicy retryPolicy, final Runnable runnable) {
+        this.withRetryingTransaction(retryPolicy, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    // Statements run by the supplier are observed as children of the transaction.
+    // The span wraps the transaction interceptor, so the commit and its failure are part of it
+    private <T> T observeTransaction(final TxType txType, final Supplier<T> supplier) {
+        final Execution execution = this.executionObserver.startTransaction(txType);
+        // Only a transaction begun here completes here, a joined one is reported by its owner
+        final TransactionCompletion completion = this.executionObserver.isEnabled()
+                && (txType == TxType.REQUIRES_NEW
+                || this.transactionRegistry.getTransactionStatus() == Status.STATUS_NO_TRANSACTION)
+                ? new TransactionCompletion() : null;
+        try {
+            final T result = txType == TxType.REQUIRES_NEW
+                    ? this.inNewTransaction(supplier, completion)
+                    : this.inTransaction(supplier, completion);
+            // Marked rollback-only without an exception, the interceptor rolls back silently
+            if (completion != null && completion.status != Status.STATUS_COMMITTED) {
+                execution.failed(new RollbackException("The transaction was rolled back."));
+            }
+            return result;
+        } catch (Exception exception) {
+            execution.failed(exception);
+            throw exception;
+        } finally {
+            execution.complete();
+        }
+    }
+
+    @Transactional(value = TxType.REQUIRED)
+    <T> T inTransaction(final Supplier<T> supplier, @Nullable final TransactionCompletion completion) {
+        return this.registerCompletion(supplier, completion);
+    }
+
+    @Transactional(value = TxType.REQUIRES_NEW)
+    <T> T inNewTransaction(final Supplier<T> supplier, @Nullable final TransactionCompletion completion) {
+        return this.registerCompletion(supplier, completion);
+    }
+
+    private <T> T registerCompletion(final Supplier<T> supplier, @Nullable final TransactionCompletion completion) {
+        if (completion != null) {
+            this.transactionRegistry.registerInterposedSynchronization(completion);
+        }
+        return supplier.get();
+    }
+
+    private <T> List<T> selectParallel(final ParallelQuery<T> query, final ParallelExecution execution,
+                                       final int index) {
+        final ReadReplicas.Route route = this.readReplicas.route();
+        try (route; Connection connection = this.getConnection(route)) {
+            try (PreparedStatementWrapper statementWrapper = new PreparedStatementWrapper(this.statementCache, connection, query.get())) {
+                final PreparedStatement preparedStatement = statementWrapper.getDelegate();
+                execution.register(index, preparedStatement);
+                try (RowSet row = new RowSet(preparedStatement.executeQuery())) {
+                    return mapRows(row, query.getRowMapper());
+                } finally {
+                    execution.unregister(index);
+                }
+            }
+        } catch (SQLException exception) {
+            if (execution.isCancelled()) {
+                throw new CancellationException("The parallel query %d was cancelled.".formatted(index));
+            }
+            this.handleDatabaseException(exception, route);
+        }
+        throw new RuntimeException("Cannot execute the parallel query.");
     }
 
-    private UUID executeInsertReturningUuid(final SQL sql) throws SQLException {
-        try (Connection connection = this.pool.getConnection()) {
+    private static <T> Optional<T> mapFirst(final RowSet row, final RowMapper<T> rowMapper,
+                                            final Execution execution) throws SQLException {
+        if (!row.next()) {
+            execution.rows(0);
+            return Optional.empty();
+        }
+        final long mapping = execution.mapping();
+        final T result = rowMapper.mapRow(row);
+        execution.mapped(mapping);
+        execution.rows(1);
+        return Optional.ofNullable(result);
+    }
+
+    private static <T> List<T> mapRows(final RowSet row, final RowMapper<T> rowMapper) throws SQLException {
+        final List<T> tuples = new ArrayList<>();
+        while (row.next()) {
+            tuples.add(rowMapper.mapRow(row));
+        }
+        return tuples;
+    }
+
+    private UUID executeInsertReturningUuid(final SQL sql, final Execution execution) throws SQLException {
+        try (Connection connection = this.getConnection()) {
+            execution.connected();
             try (PreparedStatementWrapper statementWrapper = new PreparedStatementWrapper(
-                    connection, sql, new String[] { UUID_COLUMN_NAME })
+                    this.statementCache, connection, sql, new String[] { UUID_COLUMN_NAME }, execution.parameters())
             ) {
                 final PreparedStatement preparedStatement = statementWrapper.getDelegate();
-                preparedStatement.executeUpdate();
+                execution.rows(preparedStatement.executeUpdate());
+                execution.executed();
+                this.invalidate(connection, sql);
                 try (ResultSet rs = preparedStatement.getGeneratedKeys()) {
                     if (!rs.next()) {
                         throw new RuntimeException(
@@ -173,45 +751,205 @@ public final class Postgres {
         throw new RuntimeException("Cannot insert row in the database.");
     }
 
-    private int execute(final SQL sql, final boolean retrieveUpdateCount,
-                        final Consumer<SQLException> exceptionConsumer) {
-        try (Connection connection = this.pool.getConnection()) {
-            try (PreparedStatementWrapper statementWrapper = new PreparedStatementWrapper(connection, sql)) {
+    private long copyOut(final SQL sql, final CopyFormat format, final CopyTransfer transfer) {
+        try (Connection connection = this.getConnection()) {
+            return this.copyOut(connection, new CopyQuery(sql).copyTo(format), transfer);
+        } catch (SQLException exception) {
+            this.handleDatabaseException(exception);
+        }
+        throw new RuntimeException("Cannot copy the rows from the database.");
+    }
+
+    private long copyOut(final Connection connection, final SQL copyTo,
+                         final CopyTransfer transfer) throws SQLException {
+        final CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        final CopyOut copyOut = copyManager.copyOut(copyTo.get());
+        try {
+            return transfer.transfer(new CopyReader(copyOut));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private List<String> columnLabels(final Connection connection, final SQL sql) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql.get())) {
+            final ResultSetMetaData metaData = preparedStatement.getMetaData();
+            final int columnCount = metaData.getColumnCount();
+            final List<String> columnLabels = new ArrayList<>(columnCount);
+            for (int index = 1; index <= columnCount; index++) {
+                columnLabels.add(metaData.getColumnLabel(index));
+            }
+            return columnLabels;
+        }
+    }
+
+    private int[] executeBatch(final SQL sql, final Iterable<? extends PreparedStatementHandler> statementHandlers,
+                               final int batchSize, @Nullable final List<UUID> generatedKeys) throws SQLException {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be greater than zero.");
+        }
+        final String[] retrievableKeys = generatedKeys != null ? new String[] { UUID_COLUMN_NAME } : null;
+        try (Connection connection = this.getConnection()) {
+            try (PreparedStatementWrapper statementWrapper = new PreparedStatementWrapper(
+                    this.statementCache, connection, sql, retrievableKeys)
+            ) {
+                // Sized from the collection when known, otherwise grown by each flush to the rows sent so far
+                int[] updateCounts = statementHandlers instanceof Collection<?> collection
+                        ? new int[collection.size()] : new int[0];
+                int rows = 0;
+                int pending = 0;
+                for (final PreparedStatementHandler statementHandler : statementHandlers) {
+                    statementWrapper.addBatch(statementHandler);
+                    if (++pending == batchSize) {
+                        updateCounts = this.flushBatch(statementWrapper, updateCounts, rows, generatedKeys);
+                        rows += pending;
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    updateCounts = this.flushBatch(statementWrapper, updateCounts, rows, generatedKeys);
+                    rows += pending;
+                }
+                this.invalidate(connection, sql);
+                return updateCounts.length == rows ? updateCounts : Arrays.copyOf(updateCounts, rows);
+            }
+        }
+    }
+
+    // With reWriteBatchedInserts enabled pgjdbc folds the batch into multi-row inserts
+    // and reports Statement.SUCCESS_NO_INFO (-2) for each row instead of its own count.
+    private int[] flushBatch(final PreparedStatementWrapper statementWrapper, final int[] updateCounts,
+                             final int offset, @Nullable final List<UUID> generatedKeys) throws SQLException {
+        final int[] batchCounts = statementWrapper.executeBatch();
+        int[] counts = updateCounts;
+        if (offset + batchCounts.length > counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(counts.length << 1, offset + batchCounts.length));
+        }
+        System.arraycopy(batchCounts, 0, counts, offset, batchCounts.length);
+
+        if (generatedKeys != null) {
+            try (ResultSet rs = statementWrapper.getDelegate().getGeneratedKeys()) {
+                while (rs.next()) {
+                    generatedKeys.add(rs.getObject(1, UUID.class));
+                }
+            }
+        }
+        return counts;
+    }
+
+    private int execute(final Operation operation, final SQL sql, final boolean write,
+                        @Nullable final UniqueViolationQuery violationQuery) {
+        final Execution execution = this.executionObserver.start(operation, sql);
+        try (Connection connection = this.getConnection()) {
+            execution.connected();
+            try (PreparedStatementWrapper statementWrapper = new PreparedStatementWrapper(
+                    this.statementCache, connection, sql, null, execution.parameters())) {
                 final PreparedStatement preparedStatement = statementWrapper.getDelegate();
                 preparedStatement.execute();
-                if (retrieveUpdateCount) {
-                    return preparedStatement.getUpdateCount();
+                execution.executed();
+                this.invalidate(connection, sql);
+                if (write) {
+                    final int updateCount = preparedStatement.getUpdateCount();
+                    execution.rows(updateCount);
+                    return updateCount;
                 }
             }
         } catch (SQLException exception) {
-            exceptionConsumer.accept(exception);
+            execution.failed(exception);
+            if (write) {
+                this.handleDatabaseWriteException(violationQuery, exception, execution);
+            } else {
+                this.handleDatabaseException(exception);
+            }
+        } finally {
+            execution.complete();
         }
         return 0;
     }
 
+    // Local entries go stale right away, other nodes are notified when the write commits
+    private void invalidate(final Connection connection, final SQL sql) throws SQLException {
+        this.resultCache.invalidate(sql);
+        this.invalidationBus.publish(connection, sql);
+    }
+
+    private void invalidate(final Connection connection, final String table) throws SQLException {
+        this.resultCache.invalidate(table);
+        this.invalidationBus.publish(connection, table);
+    }
+
+    private Connection getConnection() throws SQLException {
+        return this.bulkhead.checkout(() -> {
+            this.circuitBreaker.acquire(this.pool);
+            return this.pool.getConnection();
+        });
+    }
+
+    private Connection getConnection(final ReadReplicas.Route route) throws SQLException {
+        return route.isReplica() ? this.bulkhead.checkout(route::getConnection) : this.getConnection();
+    }
+
     private void handleDatabaseException(final SQLException exception) {
-        final var exceptionHandler = new PostgresExceptionHandler(exception);
-        exceptionHandler.handle();
+        this.handle(new PostgresExceptionHandler(exception));
+    }
+
+    // A replica outage opens that replica's breaker only, the primary keeps serving writes and fallback reads
+    private void handleDatabaseException(final SQLException exception, final ReadReplicas.Route route) {
+        if (!route.isReplica()) {
+            this.handleDatabaseException(exception);
+            return;
+        }
+        try {
+            new PostgresExceptionHandler(exception).handle();
+        } catch (DatabaseUnavailableException unavailableException) {
+            route.recordFailure();
+            throw unavailableException;
+        }
     }
 
     private void handleDatabaseWriteException(final SQLException exception) {
-        final var exceptionHandler = new PostgresWriteExceptionHandler(exception);
-        exceptionHandler.handle();
+        this.handle(new PostgresWriteExceptionHandler(exception));
     }
 
     private void handleDatabaseWriteException(@Nullable final UniqueViolationQuery violationQuery,
-                                              final SQLException exception) {
+                                              final SQLException exception, final Execution execution) {
         final Supplier<Map<String, Object>> violations;
         if (violationQuery != null) {
-            violations = () -> this.withNewTransaction(() ->
-                    this.selectFirst(violationQuery.get(), violationQuery.getRowMapper())
-                            .orElse(Map.of())
-            );
+            violations = () -> {
+                execution.fallback();
+                return this.withNewTransaction(() ->
+                        this.selectFirst(violationQuery.get(), violationQuery.getRowMapper())
+                                .orElse(Map.of())
+                );
+            };
         } else {
             violations = Map::of;
         }
-        final var exceptionHandler = new PostgresWriteExceptionHandler(exception, violations);
-        exceptionHandler.handle();
+        this.handle(new PostgresWriteExceptionHandler(exception, violations));
+    }
+
+    private void handle(final PostgresExceptionHandler exceptionHandler) {
+        try {
+            exceptionHandler.handle();
+        } catch (DatabaseUnavailableException exception) {
+            this.circuitBreaker.recordFailure();
+            throw exception;
+        }
+    }
+
+    // Records how the transaction ended, after the interceptor's commit or rollback
+    static final class TransactionCompletion implements Synchronization {
+
+        private volatile int status = Status.STATUS_UNKNOWN;
+
+        @Override
+        public void beforeCompletion() {
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+            this.status = status;
+        }
     }
 
 }
@@ -0,0 +1,47 @@
+package com.github.jdbc.api.cache;
+
+import java.time.Duration;
+import java.util.Locale;
+
+public final class CachePolicy {
+
+    private final String key;
+    private final Duration ttl;
+    private final String[] tables;
+
+    private CachePolicy(final String key, final Duration ttl, final String[] tables) {
+        this.key = key;
+        this.ttl = ttl;
+        this.tables = tables;
+    }
+
+    // The key names the cached result, the tables are the ones whose writes make it stale
+    public static CachePolicy of(final String key, final Duration ttl, final String... tables) {
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("A cached query needs a key naming its result.");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("The cache TTL must be greater than zero.");
+        }
+        if (tables.length == 0) {
+            throw new IllegalArgumentException("A cached query must depend on at least one table.");
+        }
+        final var normalizedTables = new String[tables.length];
+        for (int index = 0; index < tables.length; index++) {
+            normalizedTables[index] = ResultCache.tableName(tables[index].toLowerCase(Locale.ROOT));
+        }
+        return new CachePolicy(key, ttl, normalizedTables);
+    }
+
+    public String getKey() {
+        return this.key;
+    }
+
+    public Duration getTtl() {
+        return this.ttl;
+    }
+
+    String[] tables() {
+        return this.tables;
+    }
+}
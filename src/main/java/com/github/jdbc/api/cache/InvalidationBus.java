@@ -0,0 +1,240 @@
+package com.github.jdbc.api.cache;
+
+import com.github.jdbc.api.statement.SQL;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+@ApplicationScoped
+public class InvalidationBus {
+
+    private static final Logger LOG = Logger.getLogger(InvalidationBus.class);
+
+    private static final Pattern CHANNEL = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+    private static final char KEY_SEPARATOR = ':';
+    private static final String DEFAULT_CHANNEL = "postgres_cache_invalidation";
+    private static final InvalidationBus DISABLED = new InvalidationBus(null, Optional.empty(), Optional.empty(),
+            Optional.empty(), ResultCache.disabled(), false, DEFAULT_CHANNEL, 500, 1000, false);
+
+    private final DataSource pool;
+    private final String url;
+    private final Properties connectionProperties;
+    // Prefixed to every payload, so the listener can skip what this node sent itself
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ResultCache resultCache;
+    private final boolean enabled;
+    private final String channel;
+    private final int pollTimeoutMs;
+    private final long reconnectMs;
+    private final boolean notifyOnWrite;
+    private final List<Consumer<InvalidationEvent>> subscribers = new CopyOnWriteArrayList<>();
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder reconnects = new LongAdder();
+
+    private volatile boolean running;
+    private Thread listener;
+
+    @Inject
+    public InvalidationBus(final DataSource pool,
+                           @ConfigProperty(name = "quarkus.datasource.jdbc.url") final Optional<String> url,
+                           @ConfigProperty(name = "quarkus.datasource.username") final Optional<String> username,
+                           @ConfigProperty(name = "quarkus.datasource.password") final Optional<String> password,
+                           final ResultCache resultCache,
+                           @ConfigProperty(name = "postgres.invalidation.enabled", defaultValue = "false")
+                           final boolean enabled,
+                           @ConfigProperty(name = "postgres.invalidation.channel", defaultValue = "postgres_cache_invalidation")
+                           final String channel,
+                           @ConfigProperty(name = "postgres.invalidation.poll-timeout-ms", defaultValue = "500")
+                           final int pollTimeoutMs,
+                           @ConfigProperty(name = "postgres.invalidation.reconnect-ms", defaultValue = "1000")
+                           final long reconnectMs,
+                           @ConfigProperty(name = "postgres.invalidation.notify-on-write", defaultValue = "true")
+                           final boolean notifyOnWrite) {
+        if (!CHANNEL.matcher(channel).matches()) {
+            throw new IllegalArgumentException("The invalidation channel %s is not a plain identifier.".formatted(channel));
+        }
+        if (enabled && url.isEmpty()) {
+            throw new IllegalArgumentException("The invalidation listener needs quarkus.datasource.jdbc.url.");
+        }
+        this.pool = pool;
+        this.url = url.orElse(null);
+        this.connectionProperties = new Properties();
+        username.ifPresent(user -> this.connectionProperties.setProperty("user", user));
+        password.ifPresent(secret -> this.connectionProperties.setProperty("password", secret));
+        this.connectionProperties.setProperty("ApplicationName", "postgres-invalidation");
+        this.resultCache = resultCache;
+        this.enabled = enabled;
+        this.channel = channel;
+        this.pollTimeoutMs = Math.max(1, pollTimeoutMs);
+        this.reconnectMs = Math.max(0, reconnectMs);
+        this.notifyOnWrite = notifyOnWrite;
+    }
+
+    public static InvalidationBus disabled() {
+        return DISABLED;
+    }
+
+    void start(@Observes final StartupEvent event) {
+        if (!this.enabled) {
+            return;
+        }
+        this.running = true;
+        this.listener = new Thread(this::listen, "postgres-invalidation");
+        this.listener.setDaemon(true);
+        this.listener.start();
+    }
+
+    public AutoCloseable subscribe(final Consumer<InvalidationEvent> subscriber) {
+        this.subscribers.add(subscriber);
+        return () -> this.subscribers.remove(subscriber);
+    }
+
+    // Sent on the connection of the current transaction, other nodes hear of it only once it commits
+    public void publish(final String table) throws SQLException {
+        this.publish(table, null);
+    }
+
+    public void publish(final String table, final String key) throws SQLException {
+        if (!this.enabled) {
+            return;
+        }
+        final String tableName = ResultCache.tableName(table.toLowerCase(Locale.ROOT));
+        try (Connection connection = this.pool.getConnection()) {
+            this.sendNotification(connection, key != null ? tableName + KEY_SEPARATOR + key : tableName);
+        }
+    }
+
+    // Sent on the connection that ran the write, so the notification shares its transaction
+    public void publish(final Connection connection, final SQL sql) throws SQLException {
+        if (!this.enabled || !this.notifyOnWrite) {
+            return;
+        }
+        for (final String table : ResultCache.writtenTables(sql)) {
+            this.sendNotification(connection, table);
+        }
+    }
+
+    public void publish(final Connection connection, final String table) throws SQLException {
+        if (!this.enabled || !this.notifyOnWrite) {
+            return;
+        }
+        this.sendNotification(connection, ResultCache.tableName(table.toLowerCase(Locale.ROOT)));
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public long getPublished() {
+        return this.published.sum();
+    }
+
+    public long getReceived() {
+        return this.received.sum();
+    }
+
+    public long getReconnects() {
+        return this.reconnects.sum();
+    }
+
+    @PreDestroy
+    void close() {
+        this.running = false;
+        if (this.listener != null) {
+            this.listener.interrupt();
+        }
+    }
+
+    private void sendNotification(final Connection connection, final String payload) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(NOTIFY_SQL)) {
+            statement.setString(1, this.channel);
+            statement.setString(2, this.nodeId + KEY_SEPARATOR + payload);
+            statement.execute();
+        }
+        this.published.increment();
+    }
+
+    // The listener holds its connection for as long as it runs, so it opens its own instead of taking one from the pool
+    private void listen() {
+        while (this.running) {
+            try (Connection connection = DriverManager.getConnection(this.url, this.connectionProperties)) {
+                final PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + this.channel);
+                }
+                // Whatever was sent while no connection was listening is lost, so the local cache starts over
+                this.resultCache.invalidateAll();
+                while (this.running) {
+                    final PGNotification[] notifications = pgConnection.getNotifications(this.pollTimeoutMs);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (final PGNotification notification : notifications) {
+                        this.dispatch(notification.getParameter());
+                    }
+                }
+            } catch (SQLException exception) {
+                if (!this.running) {
+                    return;
+                }
+                this.reconnects.increment();
+                LOG.warnf(exception, "The invalidation listener lost its connection, reconnecting in %d ms.",
+                        this.reconnectMs);
+                try {
+                    Thread.sleep(this.reconnectMs);
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(final String notification) {
+        final int nodeSeparator = notification.indexOf(KEY_SEPARATOR);
+        // Sent by this node, which invalidated its own cache when it ran the write
+        if (nodeSeparator == this.nodeId.length() && notification.startsWith(this.nodeId)) {
+            return;
+        }
+        this.received.increment();
+        final String payload = notification.substring(nodeSeparator + 1);
+        final int separator = payload.indexOf(KEY_SEPARATOR);
+        final var event = separator < 0
+                ? new InvalidationEvent(payload, null)
+                : new InvalidationEvent(payload.substring(0, separator), payload.substring(separator + 1));
+        // Cached results are not tracked per key, a key-level event drops the whole table locally
+        this.resultCache.invalidate(event.table());
+        for (final Consumer<InvalidationEvent> subscriber : this.subscribers) {
+            try {
+                subscriber.accept(event);
+            } catch (RuntimeException exception) {
+                LOG.errorf(exception, "An invalidation subscriber failed on %s.", payload);
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.github.jdbc.api.cache;
+
+// A null key invalidates everything cached from the table
+public record InvalidationEvent(String table, String key) {
+
+    public boolean isTableLevel() {
+        return this.key == null;
+    }
+}
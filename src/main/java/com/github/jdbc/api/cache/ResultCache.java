@@ -0,0 +1,271 @@
+package com.github.jdbc.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.jdbc.api.observation.Operation;
+import com.github.jdbc.api.statement.SQL;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@ApplicationScoped
+public class ResultCache {
+
+    private static final Logger LOG = Logger.getLogger(ResultCache.class);
+
+    private static final ResultCache DISABLED = new ResultCache(null, false, 0);
+
+    // A row lock such as FOR UPDATE or FOR NO KEY UPDATE writes nothing, the lookbehinds leave it out
+    private static final Pattern WRITTEN_TABLE = Pattern.compile(
+            "\\b(?:INSERT\\s+INTO|(?<!\\bFOR\\s{1,16})(?<!\\bKEY\\s{1,16})UPDATE|DELETE\\s+FROM|MERGE\\s+INTO|TRUNCATE(?:\\s+TABLE)?|DROP\\s+TABLE(?:\\s+IF\\s+EXISTS)?"
+                    + "|ALTER\\s+TABLE)\\s+(?:ONLY\\s+)?([\\w.\"]+)",
+            Pattern.CASE_INSENSITIVE);
+    private static final String PENDING_TABLES = ResultCache.class.getName() + ".pendingTables";
+
+    private final TransactionSynchronizationRegistry transactionRegistry;
+    private final boolean enabled;
+    private final Cache<CacheKey, CachedResult> cache;
+    // Every write to a table bumps its version, entries loaded under an older version are stale
+    private final Map<String, AtomicLong> tableVersions = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bypasses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    @Inject
+    public ResultCache(final TransactionSynchronizationRegistry transactionRegistry,
+                       @ConfigProperty(name = "postgres.result-cache.enabled", defaultValue = "false")
+                       final boolean enabled,
+                       @ConfigProperty(name = "postgres.result-cache.max-rows", defaultValue = "10000")
+                       final long maxRows) {
+        this.transactionRegistry = transactionRegistry;
+        this.enabled = enabled && maxRows > 0;
+        this.cache = this.enabled ? Caffeine.newBuilder()
+                .maximumWeight(maxRows)
+                .weigher((CacheKey key, CachedResult result) -> result.rows())
+                .expireAfter(new TtlExpiry())
+                .build() : null;
+    }
+
+    public static ResultCache disabled() {
+        return DISABLED;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Operation operation, final SQL sql, final CachePolicy cachePolicy,
+                     final Supplier<T> loader) {
+        // Inside a transaction the result may depend on its own uncommitted writes
+        if (!this.enabled || this.inTransaction()) {
+            this.bypasses.increment();
+            return loader.get();
+        }
+        final List<Object> parameters;
+        try {
+            parameters = sql.getParameters();
+        } catch (SQLException | RuntimeException exception) {
+            LOG.debugf(exception, "Cannot capture the parameters of %s, the cache is bypassed.", sql.getName());
+            this.bypasses.increment();
+            return loader.get();
+        }
+        // The policy names the result, the same statement may be mapped to different types
+        final var key = new CacheKey(operation, cachePolicy.getKey(), sql.toString(), parameters);
+        final CachedResult cached = this.cache.getIfPresent(key);
+        if (cached != null) {
+            if (this.isCurrent(cachePolicy.tables(), cached.versions())) {
+                this.hits.increment();
+                return (T) cached.value();
+            }
+            this.cache.asMap().remove(key, cached);
+        }
+        this.misses.increment();
+
+        // Versions are read before loading, a write racing the load leaves the entry stale rather than wrong
+        final long[] versions = this.versions(cachePolicy.tables());
+        final T value = loader.get();
+        this.cache.put(key, new CachedResult(value, versions, weight(value), cachePolicy.getTtl().toNanos()));
+        return value;
+    }
+
+    public void invalidate(final SQL sql) {
+        if (!this.enabled || this.tableVersions.isEmpty()) {
+            return;
+        }
+        for (final String table : writtenTables(sql)) {
+            this.invalidate(table);
+        }
+    }
+
+    // Bumped right away and once more after completion, a read between the write and the commit cannot stay cached
+    public void invalidate(final String table) {
+        if (!this.enabled) {
+            return;
+        }
+        final String tableName = tableName(table.toLowerCase(Locale.ROOT));
+        final AtomicLong version = this.tableVersions.get(tableName);
+        if (version == null) {
+            return;
+        }
+        version.incrementAndGet();
+        this.invalidations.increment();
+        if (this.inTransaction()) {
+            this.invalidateAfterCompletion(tableName);
+        }
+    }
+
+    // Used when invalidations may have been missed, e.g. while the notification connection was down
+    public void invalidateAll() {
+        if (!this.enabled) {
+            return;
+        }
+        for (final AtomicLong version : this.tableVersions.values()) {
+            version.incrementAndGet();
+        }
+        this.invalidations.increment();
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public static List<String> writtenTables(final SQL sql) {
+        final Matcher matcher = WRITTEN_TABLE.matcher(sql.toString());
+        List<String> tables = List.of();
+        while (matcher.find()) {
+            final String table = tableName(matcher.group(1).toLowerCase(Locale.ROOT));
+            // An upsert reads as UPDATE SET, there is no table behind it
+            if (table.equals("set") || tables.contains(table)) {
+                continue;
+            }
+            if (tables.isEmpty()) {
+                tables = new ArrayList<>(1);
+            }
+            tables.add(table);
+        }
+        return tables;
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    public long getBypasses() {
+        return this.bypasses.sum();
+    }
+
+    public long getInvalidations() {
+        return this.invalidations.sum();
+    }
+
+    public long getSize() {
+        return this.enabled ? this.cache.estimatedSize() : 0;
+    }
+
+    static String tableName(final String table) {
+        final String unquoted = table.replace("\"", "");
+        final int schema = unquoted.lastIndexOf('.');
+        return schema >= 0 ? unquoted.substring(schema + 1) : unquoted;
+    }
+
+    private boolean inTransaction() {
+        return this.transactionRegistry.getTransactionStatus() != Status.STATUS_NO_TRANSACTION;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void invalidateAfterCompletion(final String tableName) {
+        Set<String> pendingTables = (Set<String>) this.transactionRegistry.getResource(PENDING_TABLES);
+        if (pendingTables == null) {
+            final Set<String> tables = new HashSet<>();
+            this.transactionRegistry.putResource(PENDING_TABLES, tables);
+            this.transactionRegistry.registerInterposedSynchronization(new Synchronization() {
+                @Override
+                public void beforeCompletion() {
+                }
+
+                @Override
+                public void afterCompletion(final int status) {
+                    for (final String table : tables) {
+                        ResultCache.this.tableVersions.get(table).incrementAndGet();
+                    }
+                }
+            });
+            pendingTables = tables;
+        }
+        pendingTables.add(tableName);
+    }
+
+    private long[] versions(final String[] tables) {
+        final var versions = new long[tables.length];
+        for (int index = 0; index < tables.length; index++) {
+            versions[index] = this.tableVersions.computeIfAbsent(tables[index], table -> new AtomicLong()).get();
+        }
+        return versions;
+    }
+
+    private boolean isCurrent(final String[] tables, final long[] versions) {
+        for (int index = 0; index < tables.length; index++) {
+            if (this.tableVersions.get(tables[index]).get() != versions[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // The size bound counts rows, a list weighs as much as the rows it holds
+    private static int weight(final Object value) {
+        if (value instanceof Collection<?> collection) {
+            return Math.max(1, collection.size());
+        }
+        return 1;
+    }
+
+    private record CacheKey(Operation operation, String name, String sql, List<Object> parameters) {
+    }
+
+    private record CachedResult(Object value, long[] versions, int rows, long ttlNanos) {
+    }
+
+    private static final class TtlExpiry implements Expiry<CacheKey, CachedResult> {
+
+        @Override
+        public long expireAfterCreate(final CacheKey key, final CachedResult result, final long currentTime) {
+            return result.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final CacheKey key, final CachedResult result, final long currentTime,
+                                      final long currentDuration) {
+            return result.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(final CacheKey key, final CachedResult result, final long currentTime,
+                                    final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.jdbc.api.columnar;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.BitSet;
+
+public final class BooleanVector extends ColumnVector {
+
+    private final BitSet values;
+
+    private BooleanVector(final String label, final int size, final BitSet nulls, final BitSet values) {
+        super(label, size, nulls);
+        this.values = values;
+    }
+
+    public boolean get(final int row) {
+        this.checkRow(row);
+        return this.values.get(row);
+    }
+
+    @Override
+    public Object getObject(final int row) {
+        return this.isNull(row) ? null : this.values.get(row);
+    }
+
+    public int countTrue() {
+        return this.values.cardinality();
+    }
+
+    public int countFalse() {
+        return this.size - this.nullCount() - this.countTrue();
+    }
+
+    static final class Builder implements ColumnVector.Builder {
+
+        private final BitSet nulls = new BitSet();
+        private final BitSet values = new BitSet();
+
+        @Override
+        public void read(final ResultSet resultSet, final int column, final int row) throws SQLException {
+            if (resultSet.getBoolean(column)) {
+                this.values.set(row);
+            } else if (resultSet.wasNull()) {
+                this.nulls.set(row);
+            }
+        }
+
+        @Override
+        public ColumnVector build(final String label, final int size) {
+            return new BooleanVector(label, size, this.nulls, this.values);
+        }
+    }
+}
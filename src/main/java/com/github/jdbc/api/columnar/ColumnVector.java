@@ -0,0 +1,53 @@
+package com.github.jdbc.api.columnar;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.BitSet;
+
+public abstract sealed class ColumnVector
+        permits IntVector, LongVector, DoubleVector, DecimalVector, BooleanVector, TextVector, ObjectVector {
+
+    protected final String label;
+    protected final int size;
+    // A set bit marks a SQL NULL, the primitive slot then holds zero and an object slot null
+    protected final BitSet nulls;
+
+    ColumnVector(final String label, final int size, final BitSet nulls) {
+        this.label = label;
+        this.size = size;
+        this.nulls = nulls;
+    }
+
+    public String getLabel() {
+        return this.label;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isNull(final int row) {
+        this.checkRow(row);
+        return this.nulls.get(row);
+    }
+
+    public int nullCount() {
+        return this.nulls.cardinality();
+    }
+
+    public abstract Object getObject(int row);
+
+    final void checkRow(final int row) {
+        if (row < 0 || row >= this.size) {
+            throw new IndexOutOfBoundsException("The row %d is out of the %d rows of column %s."
+                    .formatted(row, this.size, this.label));
+        }
+    }
+
+    interface Builder {
+
+        void read(ResultSet resultSet, int column, int row) throws SQLException;
+
+        ColumnVector build(String label, int size);
+    }
+}
@@ -0,0 +1,136 @@
+package com.github.jdbc.api.columnar;
+
+import com.github.jdbc.api.row.ColumnIndex;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ColumnarFrame {
+
+    static final int INITIAL_CAPACITY = 256;
+
+    private final ColumnIndex columnIndex;
+    private final ColumnVector[] columns;
+    private final int rowCount;
+
+    private ColumnarFrame(final ColumnIndex columnIndex, final ColumnVector[] columns, final int rowCount) {
+        this.columnIndex = columnIndex;
+        this.columns = columns;
+        this.rowCount = rowCount;
+    }
+
+    // Values go straight from the driver into per-column arrays, no object is created per row
+    public static ColumnarFrame read(final ResultSet resultSet) throws SQLException {
+        final ResultSetMetaData metaData = resultSet.getMetaData();
+        final int columnCount = metaData.getColumnCount();
+        final List<String> labels = new ArrayList<>(columnCount);
+        final var builders = new ColumnVector.Builder[columnCount];
+        for (int column = 1; column <= columnCount; column++) {
+            labels.add(metaData.getColumnLabel(column));
+            builders[column - 1] = builder(metaData.getColumnType(column));
+        }
+
+        int rowCount = 0;
+        while (resultSet.next()) {
+            for (int column = 0; column < columnCount; column++) {
+                builders[column].read(resultSet, column + 1, rowCount);
+            }
+            rowCount++;
+        }
+
+        final var columns = new ColumnVector[columnCount];
+        for (int column = 0; column < columnCount; column++) {
+            columns[column] = builders[column].build(labels.get(column), rowCount);
+        }
+        return new ColumnarFrame(new ColumnIndex(labels), columns, rowCount);
+    }
+
+    public int getRowCount() {
+        return this.rowCount;
+    }
+
+    public int getColumnCount() {
+        return this.columns.length;
+    }
+
+    public List<String> getColumnLabels() {
+        return this.columnIndex.labels();
+    }
+
+    public ColumnVector column(final int columnIndex) {
+        if (columnIndex < 1 || columnIndex > this.columns.length) {
+            throw new IndexOutOfBoundsException("The column index %d is out of range.".formatted(columnIndex));
+        }
+        return this.columns[columnIndex - 1];
+    }
+
+    public ColumnVector column(final String columnLabel) {
+        final int index = this.columnIndex.indexOf(columnLabel);
+        if (index == 0) {
+            throw new IllegalArgumentException("The column name %s was not found in this frame.".formatted(columnLabel));
+        }
+        return this.columns[index - 1];
+    }
+
+    public IntVector ints(final String columnLabel) {
+        return this.column(columnLabel, IntVector.class);
+    }
+
+    public LongVector longs(final String columnLabel) {
+        return this.column(columnLabel, LongVector.class);
+    }
+
+    public DoubleVector doubles(final String columnLabel) {
+        return this.column(columnLabel, DoubleVector.class);
+    }
+
+    public DecimalVector decimals(final String columnLabel) {
+        return this.column(columnLabel, DecimalVector.class);
+    }
+
+    public NumericVector numbers(final String columnLabel) {
+        final ColumnVector column = this.column(columnLabel);
+        if (column instanceof NumericVector numericVector) {
+            return numericVector;
+        }
+        throw new IllegalArgumentException("The column %s is not numeric.".formatted(columnLabel));
+    }
+
+    public BooleanVector booleans(final String columnLabel) {
+        return this.column(columnLabel, BooleanVector.class);
+    }
+
+    public TextVector texts(final String columnLabel) {
+        return this.column(columnLabel, TextVector.class);
+    }
+
+    public ObjectVector objects(final String columnLabel) {
+        return this.column(columnLabel, ObjectVector.class);
+    }
+
+    private <V extends ColumnVector> V column(final String columnLabel, final Class<V> type) {
+        final ColumnVector column = this.column(columnLabel);
+        if (!type.isInstance(column)) {
+            throw new IllegalArgumentException("The column %s is a %s, not a %s."
+                    .formatted(columnLabel, column.getClass().getSimpleName(), type.getSimpleName()));
+        }
+        return type.cast(column);
+    }
+
+    private static ColumnVector.Builder builder(final int sqlType) {
+        return switch (sqlType) {
+            case Types.SMALLINT, Types.TINYINT, Types.INTEGER -> new IntVector.Builder();
+            case Types.BIGINT -> new LongVector.Builder();
+            case Types.REAL, Types.FLOAT, Types.DOUBLE -> new DoubleVector.Builder();
+            case Types.NUMERIC, Types.DECIMAL -> new DecimalVector.Builder();
+            case Types.BOOLEAN, Types.BIT -> new BooleanVector.Builder();
+            case Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.NCHAR, Types.NVARCHAR, Types.LONGNVARCHAR ->
+                    new TextVector.Builder();
+            default -> new ObjectVector.Builder();
+        };
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.jdbc.api.columnar;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Optional;
+
+// NUMERIC keeps its exact value, only getAsDouble and the NumericVector aggregates round
+public final class DecimalVector extends ColumnVector implements NumericVector {
+
+    private final BigDecimal[] values;
+
+    private DecimalVector(final String label, final int size, final BitSet nulls, final BigDecimal[] values) {
+        super(label, size, nulls);
+        this.values = values;
+    }
+
+    public BigDecimal get(final int row) {
+        this.checkRow(row);
+        return this.values[row];
+    }
+
+    @Override
+    public Object getObject(final int row) {
+        return this.get(row);
+    }
+
+    @Override
+    public double getAsDouble(final int row) {
+        final BigDecimal value = this.get(row);
+        return value != null ? value.doubleValue() : 0;
+    }
+
+    public BigDecimal sumExact() {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int row = this.nulls.nextClearBit(0); row < this.size; row = this.nulls.nextClearBit(row + 1)) {
+            sum = sum.add(this.values[row]);
+        }
+        return sum;
+    }
+
+    @Override
+    public double sum() {
+        return this.sumExact().doubleValue();
+    }
+
+    @Override
+    public double average() {
+        final int count = this.size - this.nullCount();
+        return count > 0 ? this.sum() / count : Double.NaN;
+    }
+
+    public Optional<BigDecimal> min() {
+        BigDecimal min = null;
+        for (int row = this.nulls.nextClearBit(0); row < this.size; row = this.nulls.nextClearBit(row + 1)) {
+            min = min == null ? this.values[row] : min.min(this.values[row]);
+        }
+        return Optional.ofNullable(min);
+    }
+
+    public Optional<BigDecimal> max() {
+        BigDecimal max = null;
+        for (int row = this.nulls.nextClearBit(0); row < this.size; row = this.nulls.nextClearBit(row + 1)) {
+            max = max == null ? this.values[row] : max.max(this.values[row]);
+        }
+        return Optional.ofNullable(max);
+    }
+
+    static final class Builder implements ColumnVector.Builder {
+
+        private final BitSet nulls = new BitSet();
+        private BigDecimal[] values = new BigDecimal[ColumnarFrame.INITIAL_CAPACITY];
+
+        @Override
+        public void read(final ResultSet resultSet, final int column, final int row) throws SQLException {
+            if (row == this.values.length) {
+                this.values = Arrays.copyOf(this.values, row << 1);
+            }
+            this.values[row] = resultSet.getBigDecimal(column);
+            if (this.values[row] == null) {
+                this.nulls.set(row);
+            }
+        }
+
+        @Override
+        public ColumnVector build(final String label, final int size) {
+            return new DecimalVector(label, size, this.nulls, Arrays.copyOf(this.values, size));
+        }
+    }
+}
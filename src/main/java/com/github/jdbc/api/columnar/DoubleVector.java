@@ -0,0 +1,90 @@
+package com.github.jdbc.api.columnar;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.OptionalDouble;
+
+public final class DoubleVector extends ColumnVector implements NumericVector {
+
+    private final double[] values;
+
+    private DoubleVector(final String label, final int size, final BitSet nulls, final double[] values) {
+        super(label, size, nulls);
+        this.values = values;
+    }
+
+    public double get(final int row) {
+        this.checkRow(row);
+        return this.values[row];
+    }
+
+    @Override
+    public Object getObject(final int row) {
+        return this.isNull(row) ? null : this.values[row];
+    }
+
+    @Override
+    public double getAsDouble(final int row) {
+        return this.get(row);
+    }
+
+    // Null slots hold zero, so sums need no null check
+    @Override
+    public double sum() {
+        double sum = 0;
+        for (int row = 0; row < this.size; row++) {
+            sum += this.values[row];
+        }
+        return sum;
+    }
+
+    @Override
+    public double average() {
+        final int count = this.size - this.nullCount();
+        return count > 0 ? this.sum() / count : Double.NaN;
+    }
+
+    public OptionalDouble min() {
+        boolean found = false;
+        double min = Double.POSITIVE_INFINITY;
+        for (int row = this.nulls.nextClearBit(0); row < this.size; row = this.nulls.nextClearBit(row + 1)) {
+            min = Math.min(min, this.values[row]);
+            found = true;
+        }
+        return found ? OptionalDouble.of(min) : OptionalDouble.empty();
+    }
+
+    public OptionalDouble max() {
+        boolean found = false;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int row = this.nulls.nextClearBit(0); row < this.size; row = this.nulls.nextClearBit(row + 1)) {
+            max = Math.max(max, this.values[row]);
+            found = true;
+        }
+        return found ? OptionalDouble.of(max) : OptionalDouble.empty();
+    }
+
+    static final class Builder implements ColumnVector.Builder {
+
+        private final BitSet nulls = new BitSet();
+        private double[] values = new double[ColumnarFrame.INITIAL_CAPACITY];
+
+        @Override
+        public void read(final ResultSet resultSet, final int column, final int row) throws SQLException {
+            if (row == this.values.length) {
+                this.values = Arrays.copyOf(this.values, row << 1);
+            }
+            this.values[row] = resultSet.getDouble(column);
+            if (resultSet.wasNull()) {
+                this.nulls.set(row);
+            }
+        }
+
+        @Override
+        public ColumnVector build(final String label, final int size) {
+            return new DoubleVector(label, size, this.nulls, Arrays.copyOf(this.values, size));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.jdbc.api.columnar;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.OptionalInt;
+
+public final class IntVector extends ColumnVector implements NumericVector {
+
+    private final int[] values;
+
+    private IntVector(final String label, final int size, final BitSet nulls, final int[] values) {
+        super(label, size, nulls);
+        this.values = values;
+    }
+
+    public int get(final int row) {
+        this.checkRow(row);
+        return this.values[row];
+    }
+
+    @Override
+    public Object getObject(final int row) {
+        return this.isNull(row) ? null : this.values[row];
+    }
+
+    @Override
+    public double getAsDouble(final int row) {
+        return this.get(row);
+    }
+
+    // Null slots hold zero, so sums need no null check
+    public long sumAsLong() {
+        long sum = 0;
+        for (int row = 0; row < this.size; row++) {
+            sum += this.values[row];
+        }
+        return sum;
+    }
+
+    @Override
+    public double sum() {
+        return this.sumAsLong();
+    }
+
+    @Override
+    public double average() {
+        final int count = this.size - this.nullCount();
+        return count > 0 ? (double) this.sumAsLong() / count : Double.NaN;
+    }
+
+    public OptionalInt min() {
+        boolean found = false;
+        int min = Integer.MAX_VALUE;
+        for (int row = this.nulls.nextClearBit(0); row < this.size; row = this.nulls.nextClearBit(row + 1)) {
+            min = Math.min(min, this.values[row]);
+            found = true;
+        }
+        return found ? OptionalInt.of(min) : OptionalInt.empty();
+    }
+
+    public OptionalInt max() {
+        boolean found = false;
+        int max = Integer.MIN_VALUE;
+        for (int row = this.nulls.nextClearBit(0); row < this.size; row = this.nulls.nextClearBit(row + 1)) {
+            max = Math.max(max, this.values[row]);
+            found = true;
+        }
+        return found ? OptionalInt.of(max) : OptionalInt.empty();
+    }
+
+    static final class Builder implements ColumnVector.Builder {
+
+        private final BitSet nulls = new BitSet();
+        private int[] values = new int[ColumnarFrame.INITIAL_CAPACITY];
+
+        @Override
+        public void read(final ResultSet resultSet, final int column, final int row) throws SQLException {
+            if (row == this.values.length) {
+                this.values = Arrays.copyOf(this.values, row << 1);
+            }
+            this.values[row] = resultSet.getInt(column);
+            if (resultSet.wasNull()) {
+                this.nulls.set(row);
+            }
+        }
+
+        @Override
+        public ColumnVector build(final String label, final int size) {
+            return new IntVector(label, size, this.nulls, Arrays.copyOf(this.values, size));
+        }
+    }
+}
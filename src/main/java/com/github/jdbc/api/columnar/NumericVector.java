@@ -0,0 +1,14 @@
+package com.github.jdbc.api.columnar;
+
+public interface NumericVector {
+
+    int size();
+
+    boolean isNull(int row);
+
+    double getAsDouble(int row);
+
+    double sum();
+
+    double average();
+}
@@ -0,0 +1,49 @@
+package com.github.jdbc.api.columnar;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.BitSet;
+
+// Columns without a primitive layout, e.g. dates and UUIDs, are kept as read from the driver
+public final class ObjectVector extends ColumnVector {
+
+    private final Object[] values;
+
+    private ObjectVector(final String label, final int size, final BitSet nulls, final Object[] values) {
+        super(label, size, nulls);
+        this.values = values;
+    }
+
+    public <T> T get(final int row, final Class<T> type) {
+        return type.cast(this.getObject(row));
+    }
+
+    @Override
+    public Object getObject(final int row) {
+        this.checkRow(row);
+        return this.values[row];
+    }
+
+    static final class Builder implements ColumnVector.Builder {
+
+        private final BitSet nulls = new BitSet();
+        private Object[] values = new Object[ColumnarFrame.INITIAL_CAPACITY];
+
+        @Override
+        public void read(final ResultSet resultSet, final int column, final int row) throws SQLException {
+            if (row == this.values.length) {
+                this.values = Arrays.copyOf(this.values, row << 1);
+            }
+            this.values[row] = resultSet.getObject(column);
+            if (this.values[row] == null) {
+                this.nulls.set(row);
+            }
+        }
+
+        @Override
+        public ColumnVector build(final String label, final int size) {
+            return new ObjectVector(label, size, this.nulls, Arrays.copyOf(this.values, size));
+        }
+    }
+}
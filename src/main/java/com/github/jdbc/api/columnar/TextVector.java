@@ -0,0 +1,111 @@
+package com.github.jdbc.api.columnar;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class TextVector extends ColumnVector {
+
+    public static final int NULL_CODE = -1;
+
+    // Each distinct value is kept once, rows hold its code in the dictionary
+    private final String[] dictionary;
+    private final int[] codes;
+
+    private TextVector(final String label, final int size, final BitSet nulls,
+                       final String[] dictionary, final int[] codes) {
+        super(label, size, nulls);
+        this.dictionary = dictionary;
+        this.codes = codes;
+    }
+
+    public String get(final int row) {
+        this.checkRow(row);
+        return this.nulls.get(row) ? null : this.dictionary[this.codes[row]];
+    }
+
+    @Override
+    public Object getObject(final int row) {
+        return this.get(row);
+    }
+
+    // A NULL row has no code, zero is the first dictionary value
+    public int getCode(final int row) {
+        this.checkRow(row);
+        return this.nulls.get(row) ? NULL_CODE : this.codes[row];
+    }
+
+    public List<String> getDictionary() {
+        return List.of(this.dictionary);
+    }
+
+    public Map<String, Long> countByValue() {
+        final var counts = new long[this.dictionary.length];
+        for (int row = this.nulls.nextClearBit(0); row < this.size; row = this.nulls.nextClearBit(row + 1)) {
+            counts[this.codes[row]]++;
+        }
+        final var result = new LinkedHashMap<String, Long>(this.dictionary.length * 2);
+        for (int code = 0; code < counts.length; code++) {
+            result.put(this.dictionary[code], counts[code]);
+        }
+        return result;
+    }
+
+    // Groups by the dictionary code, so the values are summed into a flat array
+    public Map<String, Double> sumByValue(final NumericVector values) {
+        if (values.size() != this.size) {
+            throw new IllegalArgumentException("The column %s has %d rows but the values have %d."
+                    .formatted(this.label, this.size, values.size()));
+        }
+        final var sums = new double[this.dictionary.length];
+        for (int row = this.nulls.nextClearBit(0); row < this.size; row = this.nulls.nextClearBit(row + 1)) {
+            if (!values.isNull(row)) {
+                sums[this.codes[row]] += values.getAsDouble(row);
+            }
+        }
+        final var result = new LinkedHashMap<String, Double>(this.dictionary.length * 2);
+        for (int code = 0; code < sums.length; code++) {
+            result.put(this.dictionary[code], sums[code]);
+        }
+        return result;
+    }
+
+    static final class Builder implements ColumnVector.Builder {
+
+        private final BitSet nulls = new BitSet();
+        private final Map<String, Integer> codesByValue = new HashMap<>();
+        private final List<String> dictionary = new ArrayList<>();
+        private int[] codes = new int[ColumnarFrame.INITIAL_CAPACITY];
+
+        @Override
+        public void read(final ResultSet resultSet, final int column, final int row) throws SQLException {
+            if (row == this.codes.length) {
+                this.codes = Arrays.copyOf(this.codes, row << 1);
+            }
+            final String value = resultSet.getString(column);
+            if (value == null) {
+                this.nulls.set(row);
+                return;
+            }
+            Integer code = this.codesByValue.get(value);
+            if (code == null) {
+                code = this.dictionary.size();
+                this.codesByValue.put(value, code);
+                this.dictionary.add(value);
+            }
+            this.codes[row] = code;
+        }
+
+        @Override
+        public ColumnVector build(final String label, final int size) {
+            return new TextVector(label, size, this.nulls,
+                    this.dictionary.toArray(String[]::new), Arrays.copyOf(this.codes, size));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.github.jdbc.api.copy;
+
+import org.postgresql.copy.CopyIn;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+final class BinaryCopyBuffer extends CopyBuffer {
+
+    private static final byte[] SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0 };
+    // The signature, the flags and the header extension length are written unchecked, the buffer must hold them
+    private static final int HEADER_BYTES = SIGNATURE.length + Integer.BYTES + Integer.BYTES;
+
+    // Postgres binary dates and timestamps count from 2000-01-01
+    private static final long POSTGRES_EPOCH_DAYS = LocalDate.of(2000, 1, 1).toEpochDay();
+    private static final long POSTGRES_EPOCH_SECONDS = POSTGRES_EPOCH_DAYS * 86_400L;
+
+    BinaryCopyBuffer(final CopyIn copyIn, final int columnCount, final int capacity) {
+        super(copyIn, columnCount, headerCapacity(capacity));
+        for (final byte b : SIGNATURE) {
+            this.put(b);
+        }
+        this.put((byte) 0); // flags
+        this.put((byte) 0);
+        this.put((byte) 0);
+        this.put((byte) 0);
+        this.put((byte) 0); // header extension length
+        this.put((byte) 0);
+        this.put((byte) 0);
+        this.put((byte) 0);
+    }
+
+    private static int headerCapacity(final int capacity) {
+        if (capacity < HEADER_BYTES) {
+            throw new IllegalArgumentException("The binary COPY buffer capacity is too small: " + capacity);
+        }
+        return capacity;
+    }
+
+    @Override
+    protected void startRecord() throws SQLException {
+        this.putShort(this.columnCount);
+    }
+
+    @Override
+    protected void endRecord() {
+    }
+
+    @Override
+    protected void writeTrailer() throws SQLException {
+        this.putShort(-1);
+    }
+
+    @Override
+    public void setString(final String value) throws SQLException {
+        if (value == null) {
+            this.setNull();
+            return;
+        }
+        this.field(utf8Length(value));
+        this.putUtf8(value, false);
+    }
+
+    @Override
+    public void setUuid(final UUID uuid) throws SQLException {
+        if (uuid == null) {
+            this.setNull();
+            return;
+        }
+        this.field(16);
+        this.putLong(uuid.getMostSignificantBits());
+        this.putLong(uuid.getLeastSignificantBits());
+    }
+
+    @Override
+    public void setShort(final short value) throws SQLException {
+        this.field(Short.BYTES);
+        this.putShort(value);
+    }
+
+    @Override
+    public void setInt(final int value) throws SQLException {
+        this.field(Integer.BYTES);
+        this.putInt(value);
+    }
+
+    @Override
+    public void setLong(final long value) throws SQLException {
+        this.field(Long.BYTES);
+        this.putLong(value);
+    }
+
+    @Override
+    public void setDouble(final double value) throws SQLException {
+        this.field(Double.BYTES);
+        this.putLong(Double.doubleToLongBits(value));
+    }
+
+    @Override
+    public void setBoolean(final boolean value) throws SQLException {
+        this.field(1);
+        this.ensure(1);
+        this.put((byte) (value ? 1 : 0));
+    }
+
+    @Override
+    public void setLocalDate(final LocalDate localDate) throws SQLException {
+        if (localDate == null) {
+            this.setNull();
+            return;
+        }
+        this.field(Integer.BYTES);
+        this.putInt((int) (localDate.toEpochDay() - POSTGRES_EPOCH_DAYS));
+    }
+
+    @Override
+    public void setLocalDateTime(final LocalDateTime localDateTime) throws SQLException {
+        if (localDateTime == null) {
+            this.setNull();
+            return;
+        }
+        final long seconds = localDateTime.toEpochSecond(ZoneOffset.UTC) - POSTGRES_EPOCH_SECONDS;
+        this.field(Long.BYTES);
+        this.putLong(seconds * 1_000_000L + localDateTime.getNano() / 1_000);
+    }
+
+    @Override
+    public void setNull() throws SQLException {
+        this.field(-1);
+    }
+
+    private void field(final int length) throws SQLException {
+        this.fieldCount++;
+        this.putInt(length);
+    }
+}
@@ -0,0 +1,169 @@
+package com.github.jdbc.api.copy;
+
+import org.postgresql.copy.CopyIn;
+
+import java.sql.SQLException;
+
+public abstract sealed class CopyBuffer implements CopyRecord permits TextCopyBuffer, BinaryCopyBuffer {
+
+    public static final int DEFAULT_CAPACITY = 64 * 1024;
+
+    private final CopyIn copyIn;
+    private final byte[] buffer;
+    private int position;
+
+    protected final int columnCount;
+    protected int fieldCount;
+
+    protected CopyBuffer(final CopyIn copyIn, final int columnCount, final int capacity) {
+        if (capacity < 16) {
+            throw new IllegalArgumentException("The COPY buffer capacity is too small: " + capacity);
+        }
+        this.copyIn = copyIn;
+        this.columnCount = columnCount;
+        this.buffer = new byte[capacity];
+    }
+
+    public static CopyBuffer allocate(final CopyFormat format, final CopyIn copyIn, final int columnCount) {
+        return switch (format) {
+            case TEXT -> new TextCopyBuffer(copyIn, columnCount, DEFAULT_CAPACITY);
+            case BINARY -> new BinaryCopyBuffer(copyIn, columnCount, DEFAULT_CAPACITY);
+            case CSV -> throw new IllegalArgumentException("The CSV format is only supported by COPY TO.");
+        };
+    }
+
+    public final <T> void write(final T value, final CopyRecordHandler<T> recordHandler) throws SQLException {
+        this.fieldCount = 0;
+        this.startRecord();
+        recordHandler.writeRecord(value, this);
+        if (this.fieldCount != this.columnCount) {
+            throw new SQLException("The COPY record has %d fields but %d columns were declared."
+                    .formatted(this.fieldCount, this.columnCount));
+        }
+        this.endRecord();
+    }
+
+    public final long finish() throws SQLException {
+        this.writeTrailer();
+        this.flush();
+        return this.copyIn.endCopy();
+    }
+
+    protected abstract void startRecord() throws SQLException;
+
+    protected abstract void endRecord() throws SQLException;
+
+    protected void writeTrailer() throws SQLException {
+    }
+
+    protected final void ensure(final int bytes) throws SQLException {
+        if (this.position + bytes > this.buffer.length) {
+            this.flush();
+        }
+    }
+
+    protected final void put(final byte value) {
+        this.buffer[this.position++] = value;
+    }
+
+    protected final void putShort(final int value) throws SQLException {
+        this.ensure(Short.BYTES);
+        this.buffer[this.position++] = (byte) (value >>> 8);
+        this.buffer[this.position++] = (byte) value;
+    }
+
+    protected final void putInt(final int value) throws SQLException {
+        this.ensure(Integer.BYTES);
+        this.buffer[this.position++] = (byte) (value >>> 24);
+        this.buffer[this.position++] = (byte) (value >>> 16);
+        this.buffer[this.position++] = (byte) (value >>> 8);
+        this.buffer[this.position++] = (byte) value;
+    }
+
+    protected final void putLong(final long value) throws SQLException {
+        this.putInt((int) (value >>> 32));
+        this.putInt((int) value);
+    }
+
+    protected final void putAscii(final String value) throws SQLException {
+        final int length = value.length();
+        for (int index = 0; index < length; index++) {
+            this.ensure(1);
+            this.put((byte) value.charAt(index));
+        }
+    }
+
+    protected final void putUtf8(final String value, final boolean escape) throws SQLException {
+        final int length = value.length();
+        for (int index = 0; index < length; index++) {
+            final char c = value.charAt(index);
+            this.ensure(4);
+            if (c < 0x80) {
+                if (escape) {
+                    final byte escaped = escape(c);
+                    if (escaped != 0) {
+                        this.put((byte) '\\');
+                        this.put(escaped);
+                        continue;
+                    }
+                }
+                this.put((byte) c);
+            } else if (c < 0x800) {
+                this.put((byte) (0xC0 | (c >> 6)));
+                this.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && index + 1 < length
+                    && Character.isLowSurrogate(value.charAt(index + 1))) {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++index));
+                this.put((byte) (0xF0 | (codePoint >> 18)));
+                this.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                this.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                this.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                this.put((byte) '?');
+            } else {
+                this.put((byte) (0xE0 | (c >> 12)));
+                this.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                this.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    protected static int utf8Length(final String value) {
+        final int length = value.length();
+        int bytes = 0;
+        for (int index = 0; index < length; index++) {
+            final char c = value.charAt(index);
+            if (c < 0x80) {
+                bytes += 1;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && index + 1 < length
+                    && Character.isLowSurrogate(value.charAt(index + 1))) {
+                bytes += 4;
+                index++;
+            } else if (Character.isSurrogate(c)) {
+                bytes += 1;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    private static byte escape(final char c) {
+        return switch (c) {
+            case '\\' -> (byte) '\\';
+            case '\n' -> (byte) 'n';
+            case '\r' -> (byte) 'r';
+            case '\t' -> (byte) 't';
+            default -> 0;
+        };
+    }
+
+    private void flush() throws SQLException {
+        if (this.position > 0) {
+            this.copyIn.writeToCopy(this.buffer, 0, this.position);
+            this.position = 0;
+        }
+    }
+}
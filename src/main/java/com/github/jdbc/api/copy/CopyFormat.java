@@ -0,0 +1,18 @@
+package com.github.jdbc.api.copy;
+
+public enum CopyFormat {
+
+    TEXT("text"),
+    BINARY("binary"),
+    CSV("csv");
+
+    private final String option;
+
+    CopyFormat(final String option) {
+        this.option = option;
+    }
+
+    public String getOption() {
+        return this.option;
+    }
+}
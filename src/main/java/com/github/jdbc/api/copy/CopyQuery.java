@@ -0,0 +1,26 @@
+package com.github.jdbc.api.copy;
+
+import com.github.jdbc.api.statement.SQL;
+
+import java.sql.SQLException;
+
+public final class CopyQuery {
+
+    private final SQL query;
+
+    public CopyQuery(final SQL query) {
+        this.query = query;
+    }
+
+    // COPY cannot bind parameters, and the raw text keeps whitespace inside string literals intact
+    public SQL copyTo(final CopyFormat format) throws SQLException {
+        if (!this.query.getParameters().isEmpty()) {
+            throw new IllegalArgumentException("The COPY query cannot bind parameters, inline the values instead.");
+        }
+        return new SQL("COPY (%s) TO STDOUT (FORMAT %s)".formatted(this.query.get(), format.getOption()));
+    }
+
+    public SQL get() {
+        return this.query;
+    }
+}
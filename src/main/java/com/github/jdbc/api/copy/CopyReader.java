@@ -0,0 +1,68 @@
+package com.github.jdbc.api.copy;
+
+import com.github.jdbc.api.mapper.RowMapper;
+import com.github.jdbc.api.row.CopyRow;
+import org.postgresql.copy.CopyOut;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+public final class CopyReader {
+
+    private final CopyOut copyOut;
+
+    public CopyReader(final CopyOut copyOut) {
+        this.copyOut = copyOut;
+    }
+
+    public long transferTo(final OutputStream outputStream) throws SQLException, IOException {
+        try {
+            byte[] data;
+            while ((data = this.copyOut.readFromCopy()) != null) {
+                outputStream.write(data);
+            }
+            return this.copyOut.getHandledRowCount();
+        } finally {
+            this.cancel();
+        }
+    }
+
+    public long transferTo(final WritableByteChannel channel) throws SQLException, IOException {
+        try {
+            byte[] data;
+            while ((data = this.copyOut.readFromCopy()) != null) {
+                final ByteBuffer buffer = ByteBuffer.wrap(data);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            return this.copyOut.getHandledRowCount();
+        } finally {
+            this.cancel();
+        }
+    }
+
+    public <T> long map(final CopyRow row, final RowMapper<T> rowMapper,
+                        final Consumer<? super T> consumer) throws SQLException {
+        try {
+            byte[] data;
+            while ((data = this.copyOut.readFromCopy()) != null) {
+                row.reset(data);
+                consumer.accept(rowMapper.mapRow(row));
+            }
+            return this.copyOut.getHandledRowCount();
+        } finally {
+            this.cancel();
+        }
+    }
+
+    private void cancel() throws SQLException {
+        if (this.copyOut.isActive()) {
+            this.copyOut.cancelCopy();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.jdbc.api.copy;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public sealed interface CopyRecord permits CopyBuffer {
+
+    void setString(String value) throws SQLException;
+
+    void setUuid(UUID uuid) throws SQLException;
+
+    void setShort(short value) throws SQLException;
+    void setInt(int value) throws SQLException;
+    void setLong(long value) throws SQLException;
+    void setDouble(double value) throws SQLException;
+
+    void setBoolean(boolean value) throws SQLException;
+
+    void setLocalDate(LocalDate localDate) throws SQLException;
+    void setLocalDateTime(LocalDateTime localDateTime) throws SQLException;
+
+    void setNull() throws SQLException;
+
+}
@@ -0,0 +1,9 @@
+package com.github.jdbc.api.copy;
+
+import java.sql.SQLException;
+
+@FunctionalInterface
+public interface CopyRecordHandler<T> {
+
+    void writeRecord(final T value, final CopyRecord record) throws SQLException;
+}
@@ -0,0 +1,36 @@
+package com.github.jdbc.api.copy;
+
+import com.github.jdbc.api.statement.SQL;
+
+import java.util.List;
+
+public final class CopyTable {
+
+    private final String table;
+    private final List<String> columns;
+
+    public CopyTable(final String table, final String... columns) {
+        this(table, List.of(columns));
+    }
+
+    public CopyTable(final String table, final List<String> columns) {
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("The column list of the COPY statement is empty.");
+        }
+        this.table = table;
+        this.columns = List.copyOf(columns);
+    }
+
+    public SQL copyFrom(final CopyFormat format) {
+        return new SQL("COPY %s (%s) FROM STDIN (FORMAT %s)".formatted(
+                this.table, String.join(", ", this.columns), format.getOption()));
+    }
+
+    public String getTable() {
+        return this.table;
+    }
+
+    public List<String> getColumns() {
+        return this.columns;
+    }
+}
@@ -0,0 +1,10 @@
+package com.github.jdbc.api.copy;
+
+import java.io.IOException;
+import java.sql.SQLException;
+
+@FunctionalInterface
+public interface CopyTransfer {
+
+    long transfer(final CopyReader reader) throws SQLException, IOException;
+}
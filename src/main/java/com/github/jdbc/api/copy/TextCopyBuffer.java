@@ -0,0 +1,121 @@
+package com.github.jdbc.api.copy;
+
+import org.postgresql.copy.CopyIn;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+final class TextCopyBuffer extends CopyBuffer {
+
+    private static final byte FIELD_DELIMITER = '\t';
+    private static final byte RECORD_DELIMITER = '\n';
+
+    TextCopyBuffer(final CopyIn copyIn, final int columnCount, final int capacity) {
+        super(copyIn, columnCount, capacity);
+    }
+
+    @Override
+    protected void startRecord() {
+    }
+
+    @Override
+    protected void endRecord() throws SQLException {
+        this.ensure(1);
+        this.put(RECORD_DELIMITER);
+    }
+
+    @Override
+    public void setString(final String value) throws SQLException {
+        if (value == null) {
+            this.setNull();
+            return;
+        }
+        this.nextField();
+        this.putUtf8(value, true);
+    }
+
+    @Override
+    public void setUuid(final UUID uuid) throws SQLException {
+        this.setAscii(uuid != null ? uuid.toString() : null);
+    }
+
+    @Override
+    public void setShort(final short value) throws SQLException {
+        this.setLong(value);
+    }
+
+    @Override
+    public void setInt(final int value) throws SQLException {
+        this.setLong(value);
+    }
+
+    @Override
+    public void setLong(final long value) throws SQLException {
+        this.nextField();
+        if (value == Long.MIN_VALUE) {
+            this.putAscii(Long.toString(value));
+            return;
+        }
+        long remaining = value;
+        this.ensure(20);
+        if (remaining < 0) {
+            this.put((byte) '-');
+            remaining = -remaining;
+        }
+        long divisor = 1;
+        while (remaining / divisor >= 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            this.put((byte) ('0' + (remaining / divisor) % 10));
+        }
+    }
+
+    @Override
+    public void setDouble(final double value) throws SQLException {
+        this.setAscii(Double.toString(value));
+    }
+
+    @Override
+    public void setBoolean(final boolean value) throws SQLException {
+        this.nextField();
+        this.ensure(1);
+        this.put((byte) (value ? 't' : 'f'));
+    }
+
+    @Override
+    public void setLocalDate(final LocalDate localDate) throws SQLException {
+        this.setAscii(localDate != null ? localDate.toString() : null);
+    }
+
+    @Override
+    public void setLocalDateTime(final LocalDateTime localDateTime) throws SQLException {
+        this.setAscii(localDateTime != null ? localDateTime.toString() : null);
+    }
+
+    @Override
+    public void setNull() throws SQLException {
+        this.nextField();
+        this.ensure(2);
+        this.put((byte) '\\');
+        this.put((byte) 'N');
+    }
+
+    private void setAscii(final String value) throws SQLException {
+        if (value == null) {
+            this.setNull();
+            return;
+        }
+        this.nextField();
+        this.putAscii(value);
+    }
+
+    private void nextField() throws SQLException {
+        if (this.fieldCount++ > 0) {
+            this.ensure(1);
+            this.put(FIELD_DELIMITER);
+        }
+    }
+}
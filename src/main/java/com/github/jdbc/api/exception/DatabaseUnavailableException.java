@@ -5,4 +5,8 @@ public final class DatabaseUnavailableException extends RuntimeException {
     public DatabaseUnavailableException(final Throwable cause) {
         super(cause);
     }
-}
\ No newline at end of file
+
+    public DatabaseUnavailableException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.github.jdbc.api.exception;
+
+public final class ForeignKeyViolationException extends RuntimeException {
+
+    private final String constraint;
+
+    public ForeignKeyViolationException(final String constraint, final Throwable cause) {
+        super(cause);
+        this.constraint = constraint;
+    }
+
+    public String getConstraint() {
+        return this.constraint;
+    }
+}
@@ -0,0 +1,15 @@
+package com.github.jdbc.api.exception;
+
+public final class SerializationFailureException extends RuntimeException {
+
+    private final String sqlState;
+
+    public SerializationFailureException(final String sqlState, final Throwable cause) {
+        super(cause);
+        this.sqlState = sqlState;
+    }
+
+    public String getSqlState() {
+        return this.sqlState;
+    }
+}
@@ -1,29 +1,37 @@
 package com.github.jdbc.api.exception.handler;
 
 import com.github.jdbc.api.exception.DatabaseUnavailableException;
+import com.github.jdbc.api.exception.SerializationFailureException;
 import org.jboss.logging.Logger;
+import org.postgresql.util.PSQLException;
 import org.postgresql.util.PSQLState;
+import org.postgresql.util.ServerErrorMessage;
 
 import java.sql.SQLException;
 import java.sql.SQLTimeoutException;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 public class PostgresExceptionHandler {
 
     private static final Logger LOG = Logger.getLogger(PostgresExceptionHandler.class);
 
+    private static final Map<String, PSQLState> STATES = states();
+
     protected final SQLException exception;
     protected final PSQLState stateType;
+    protected final SQLStateCategory category;
 
     public PostgresExceptionHandler(final SQLException exception) {
         this.exception = exception;
-        this.stateType = Arrays.stream(PSQLState.values())
-                .filter(state -> state.getState().equals(exception.getSQLState()))
-                .findFirst().orElse(PSQLState.UNKNOWN_STATE);
+        final String sqlState = exception.getSQLState();
+        this.stateType = sqlState != null ? STATES.getOrDefault(sqlState, PSQLState.UNKNOWN_STATE) : PSQLState.UNKNOWN_STATE;
+        this.category = SQLStateCategory.of(sqlState);
     }
 
     public void handle() {
         this.checkNodeAvailability();
+        this.checkTransactionRollback();
         throw new RuntimeException(this.exception);
     }
 
@@ -31,26 +39,48 @@ public class PostgresExceptionHandler {
         if (this.exception instanceof SQLTimeoutException) {
             throw new DatabaseUnavailableException(this.exception);
         }
-        else if (this.stateType != PSQLState.UNKNOWN_STATE) {
-            if (this.stateType == PSQLState.OUT_OF_MEMORY || checkConnectionError()) {
-                throw new DatabaseUnavailableException(this.exception);
-            }
+        else if (this.category == SQLStateCategory.INSUFFICIENT_RESOURCES || checkConnectionError()) {
+            throw new DatabaseUnavailableException(this.exception);
+        }
+    }
+
+    protected void checkTransactionRollback() {
+        if (this.stateType == PSQLState.SERIALIZATION_FAILURE || this.stateType == PSQLState.DEADLOCK_DETECTED) {
+            throw new SerializationFailureException(this.stateType.getState(), this.exception);
         }
     }
 
+    protected String constraint() {
+        if (this.exception instanceof PSQLException psqlException) {
+            final ServerErrorMessage serverErrorMessage = psqlException.getServerErrorMessage();
+            return serverErrorMessage != null ? serverErrorMessage.getConstraint() : null;
+        }
+        return null;
+    }
+
     private boolean checkConnectionError() {
-        final String stateCode = this.stateType.getState();
-        final boolean connectionError = PSQLState.isConnectionError(stateCode);
+        // A canceled query (57014) is an operator intervention that leaves the node available
+        final boolean connectionError = this.category == SQLStateCategory.CONNECTION_EXCEPTION
+                || this.category == SQLStateCategory.OPERATOR_INTERVENTION && this.stateType != PSQLState.QUERY_CANCELED;
 
         if (connectionError && LOG.isEnabled(Logger.Level.FATAL)) {
             LOG.logf(Logger.Level.FATAL, "%s (%s) %s",
-                    this.stateType.name(), stateCode, this.exception.getMessage());
+                    this.stateType.name(), this.exception.getSQLState(), this.exception.getMessage());
         }
         else if (!connectionError && LOG.isEnabled(Logger.Level.DEBUG)) {
             LOG.logf(Logger.Level.DEBUG, "%s (%s) %s",
-                    this.stateType.name(), stateCode, this.exception.getMessage());
+                    this.stateType.name(), this.exception.getSQLState(), this.exception.getMessage());
         }
 
         return connectionError;
     }
-}
\ No newline at end of file
+
+    // Several constants share a state code, the first declared one wins as before
+    private static Map<String, PSQLState> states() {
+        final var states = new HashMap<String, PSQLState>();
+        for (final PSQLState state : PSQLState.values()) {
+            states.putIfAbsent(state.getState(), state);
+        }
+        return Map.copyOf(states);
+    }
+}
@@ -1,7 +1,8 @@
 package com.github.jdbc.api.exception.handler;
 
 import com.github.jdbc.api.exception.AlreadyExistsException;
-import org.postgresql.util.PSQLState;
+import com.github.jdbc.api.exception.CheckViolationException;
+import com.github.jdbc.api.exception.ForeignKeyViolationException;
 
 import java.sql.SQLException;
 import java.util.Map;
@@ -23,8 +24,14 @@ public final class PostgresWriteExceptionHandler extends PostgresExceptionHandle
 
     @Override
     public void handle() {
-        if (this.stateType == PSQLState.UNIQUE_VIOLATION) {
-            throw new AlreadyExistsException(this.violations.get());
+        if (this.category == SQLStateCategory.INTEGRITY_CONSTRAINT_VIOLATION) {
+            switch (this.stateType) {
+                case UNIQUE_VIOLATION -> throw new AlreadyExistsException(this.violations.get());
+                case FOREIGN_KEY_VIOLATION -> throw new ForeignKeyViolationException(this.constraint(), this.exception);
+                case CHECK_VIOLATION -> throw new CheckViolationException(this.constraint(), this.exception);
+                default -> {
+                }
+            }
         }
         super.handle();
     }
@@ -0,0 +1,27 @@
+package com.github.jdbc.api.exception.handler;
+
+public enum SQLStateCategory {
+
+    CONNECTION_EXCEPTION,
+    INTEGRITY_CONSTRAINT_VIOLATION,
+    TRANSACTION_ROLLBACK,
+    INSUFFICIENT_RESOURCES,
+    OPERATOR_INTERVENTION,
+    OTHER;
+
+    // Only the two characters of the SQLState class are read, nothing is allocated
+    public static SQLStateCategory of(final String sqlState) {
+        if (sqlState == null || sqlState.length() < 2) {
+            return OTHER;
+        }
+        final char first = sqlState.charAt(0);
+        final char second = sqlState.charAt(1);
+        return switch (first) {
+            case '0' -> second == '8' ? CONNECTION_EXCEPTION : OTHER;
+            case '2' -> second == '3' ? INTEGRITY_CONSTRAINT_VIOLATION : OTHER;
+            case '4' -> second == '0' ? TRANSACTION_ROLLBACK : OTHER;
+            case '5' -> second == '3' ? INSUFFICIENT_RESOURCES : second == '7' ? OPERATOR_INTERVENTION : OTHER;
+            default -> OTHER;
+        };
+    }
+}
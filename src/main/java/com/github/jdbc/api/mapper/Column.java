@@ -0,0 +1,15 @@
+package com.github.jdbc.api.mapper;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.RECORD_COMPONENT)
+@Retention(RetentionPolicy.CLASS)
+public @interface Column {
+
+    String value() default "";
+
+    boolean bind() default true;
+}
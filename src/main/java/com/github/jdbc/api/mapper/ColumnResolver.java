@@ -0,0 +1,39 @@
+package com.github.jdbc.api.mapper;
+
+import com.github.jdbc.api.row.Row;
+
+import java.lang.ref.WeakReference;
+import java.sql.SQLException;
+
+public final class ColumnResolver {
+
+    private final String[] columnLabels;
+    private volatile Resolution resolution;
+
+    public ColumnResolver(final String... columnLabels) {
+        this.columnLabels = columnLabels.clone();
+    }
+
+    public int[] resolve(final Row row) throws SQLException {
+        Resolution resolution = this.resolution;
+        if (resolution == null || resolution.get() != row) {
+            final int[] columnIndexes = new int[this.columnLabels.length];
+            for (int index = 0; index < columnIndexes.length; index++) {
+                columnIndexes[index] = row.findColumn(this.columnLabels[index]);
+            }
+            resolution = new Resolution(row, columnIndexes);
+            this.resolution = resolution;
+        }
+        return resolution.columnIndexes;
+    }
+
+    private static final class Resolution extends WeakReference<Row> {
+
+        private final int[] columnIndexes;
+
+        private Resolution(final Row row, final int[] columnIndexes) {
+            super(row);
+            this.columnIndexes = columnIndexes;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.github.jdbc.api.mapper.processor;
+
+import com.github.jdbc.api.mapper.Column;
+import com.github.jdbc.api.mapper.RowRecord;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@SupportedAnnotationTypes("com.github.jdbc.api.mapper.RowRecord")
+public final class RowRecordProcessor extends AbstractProcessor {
+
+    private static final String ROW_MAPPER_SUFFIX = "RowMapper";
+    private static final String STATEMENT_SUFFIX = "Statement";
+
+    private static final Map<String, Accessor> ACCESSORS = Map.ofEntries(
+            Map.entry("java.lang.String", new Accessor("String", "String", false)),
+            Map.entry("java.util.UUID", new Accessor("Uuid", "Uuid", false)),
+            Map.entry("int", new Accessor("Int", "Int", false)),
+            Map.entry("java.lang.Integer", new Accessor("Int", null, true)),
+            Map.entry("short", new Accessor("Short", "Short", false)),
+            Map.entry("java.lang.Short", new Accessor("Short", null, true)),
+            Map.entry("boolean", new Accessor("Boolean", "Boolean", false)),
+            Map.entry("java.lang.Boolean", new Accessor("Boolean", null, true)),
+            Map.entry("java.time.LocalDate", new Accessor("LocalDate", "LocalDate", false)),
+            Map.entry("java.time.LocalDateTime", new Accessor("LocalDateTime", "LocalDateTime", false))
+    );
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (final Element element : roundEnv.getElementsAnnotatedWith(RowRecord.class)) {
+            if (element.getKind() != ElementKind.RECORD) {
+                this.error(element, "@RowRecord can only be placed on records.");
+                continue;
+            }
+            final var record = (TypeElement) element;
+            if (!record.getTypeParameters().isEmpty()) {
+                this.error(element, "@RowRecord does not support generic records.");
+                continue;
+            }
+            final List<Component> components = this.components(record);
+            if (components != null) {
+                this.generate(record, components);
+            }
+        }
+        return true;
+    }
+
+    private List<Component> components(final TypeElement record) {
+        final List<Component> components = new ArrayList<>();
+        boolean valid = true;
+        for (final RecordComponentElement element : record.getRecordComponents()) {
+            final String type = element.asType().toString();
+            final Accessor accessor = ACCESSORS.get(type);
+            if (accessor == null) {
+                this.error(element, "Unsupported @RowRecord component type: " + type);
+                valid = false;
+                continue;
+            }
+            final String name = element.getSimpleName().toString();
+            final Column column = element.getAnnotation(Column.class);
+            final String columnLabel = column != null && !column.value().isEmpty()
+                    ? column.value() : snakeCase(name);
+            final boolean bind = column == null || column.bind();
+            components.add(new Component(name, type, columnLabel, bind, accessor));
+        }
+        return valid ? components : null;
+    }
+
+    private void generate(final TypeElement record, final List<Component> components) {
+        final PackageElement packageElement = this.processingEnv.getElementUtils().getPackageOf(record);
+        final String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        final String recordName = record.getQualifiedName().toString();
+        final String simpleName = (packageName.isEmpty()
+                ? recordName : recordName.substring(packageName.length() + 1)).replace('.', '_');
+
+        this.write(record, packageName, simpleName + ROW_MAPPER_SUFFIX,
+                rowMapperSource(packageName, recordName, simpleName + ROW_MAPPER_SUFFIX, components));
+        this.write(record, packageName, simpleName + STATEMENT_SUFFIX,
+                statementSource(packageName, recordName, simpleName + STATEMENT_SUFFIX, components));
+    }
+
+    private static String rowMapperSource(final String packageName, final String recordName,
+                                          final String className, final List<Component> components) {
+        final var source = new StringBuilder();
+        packageDeclaration(source, packageName);
+        source.append("@javax.annotation.processing.Generated(\"")
+                .append(RowRecordProcessor.class.getName()).append("\")\n")
+                .append("public final class ").append(className)
+                .append(" implements com.github.jdbc.api.mapper.RowMapper<").append(recordName).append("> {\n\n")
+                .append("    private final com.github.jdbc.api.mapper.ColumnResolver columnResolver =\n")
+                .append("            new com.github.jdbc.api.mapper.ColumnResolver(");
+        for (int index = 0; index < components.size(); index++) {
+            source.append(index > 0 ? ", " : "").append('"').append(components.get(index).columnLabel).append('"');
+        }
+        source.append(");\n\n")
+                .append("    @Override\n")
+                .append("    public ").append(recordName)
+                .append(" mapRow(final com.github.jdbc.api.row.Row row) throws java.sql.SQLException {\n")
+                .append("        final int[] columns = this.columnResolver.resolve(row);\n");
+        for (int index = 0; index < components.size(); index++) {
+            final Component component = components.get(index);
+            final String getter = "row.get" + component.accessor.row + "(columns[" + index + "])";
+            if (component.accessor.boxed) {
+                source.append("        final ").append(component.type).append(" c").append(index)
+                        .append(" = ").append(component.type).append(".valueOf(").append(getter).append(");\n")
+                        .append("        final ").append(component.type).append(" v").append(index)
+                        .append(" = row.wasNull() ? null : c").append(index).append(";\n");
+            } else {
+                source.append("        final ").append(component.type).append(" v").append(index)
+                        .append(" = ").append(getter).append(";\n");
+            }
+        }
+        source.append("        return new ").append(recordName).append('(');
+        for (int index = 0; index < components.size(); index++) {
+            source.append(index > 0 ? ", " : "").append('v').append(index);
+        }
+        return source.append(");\n    }\n}\n").toString();
+    }
+
+    private static String statementSource(final String packageName, final String recordName,
+                                          final String className, final List<Component> components) {
+        final var source = new StringBuilder();
+        packageDeclaration(source, packageName);
+        source.append("@javax.annotation.processing.Generated(\"")
+                .append(RowRecordProcessor.class.getName()).append("\")\n")
+                .append("public record ").append(className).append('(').append(recordName).append(" value)")
+                .append(" implements com.github.jdbc.api.statement.PreparedStatementHandler {\n\n")
+                .append("    @Override\n")
+                .append("    public void prepareStatement(final com.github.jdbc.api.statement.PreparedStatement statement)")
+                .append(" throws java.sql.SQLException {\n");
+        for (final Component component : components) {
+            if (!component.bind) continue;
+            final String setter = component.accessor.statement != null ? component.accessor.statement : "";
+            source.append("        statement.set").append(setter)
+                    .append("(this.value.").append(component.name).append("());\n");
+        }
+        return source.append("    }\n}\n").toString();
+    }
+
+    private static void packageDeclaration(final StringBuilder source, final String packageName) {
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+    }
+
+    private void write(final TypeElement record, final String packageName,
+                       final String className, final String source) {
+        final String qualifiedName = packageName.isEmpty() ? className : packageName + '.' + className;
+        try (Writer writer = this.processingEnv.getFiler().createSourceFile(qualifiedName, record).openWriter()) {
+            writer.write(source);
+        } catch (IOException exception) {
+            this.error(record, "Cannot generate " + qualifiedName + ": " + exception.getMessage());
+        }
+    }
+
+    private void error(final Element element, final String message) {
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static String snakeCase(final String name) {
+        final var builder = new StringBuilder(name.length() + 4);
+        for (int index = 0; index < name.length(); index++) {
+            final char c = name.charAt(index);
+            if (Character.isUpperCase(c)) {
+                if (index > 0) builder.append('_');
+                builder.append(Character.toLowerCase(c));
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private record Accessor(String row, String statement, boolean boxed) {
+    }
+
+    private record Component(String name, String type, String columnLabel, boolean bind, Accessor accessor) {
+    }
+}
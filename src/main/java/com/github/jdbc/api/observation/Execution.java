@@ -0,0 +1,173 @@
+package com.github.jdbc.api.observation;
+
+import com.github.jdbc.api.exception.handler.SQLStateCategory;
+import com.github.jdbc.api.statement.SQL;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static jakarta.transaction.Transactional.TxType;
+
+public final class Execution {
+
+    static final Execution NONE = new Execution(null, null, null, null, false);
+
+    private final Operation operation;
+    private final SQL sql;
+    private final TxType txType;
+    private final ExecutionListener[] listeners;
+    private final Object[] contexts;
+    private final List<Object> parameters;
+
+    private final long startNanos;
+    private long connectedNanos;
+    private long executedNanos;
+    private long mappingNanos;
+    private long completedNanos;
+    private long rows = -1;
+    private int fetchSize = -1;
+    private boolean fallback;
+    private Throwable failure;
+
+    Execution(final Operation operation, final SQL sql, final TxType txType,
+              final ExecutionListener[] listeners, final boolean captureParameters) {
+        this.operation = operation;
+        this.sql = sql;
+        this.txType = txType;
+        this.listeners = listeners;
+        this.contexts = listeners != null ? new Object[listeners.length] : null;
+        this.parameters = captureParameters ? new ArrayList<>() : null;
+        this.startNanos = listeners != null ? System.nanoTime() : 0;
+    }
+
+    void start() {
+        for (int index = 0; index < this.listeners.length; index++) {
+            this.contexts[index] = this.listeners[index].onStart(this);
+        }
+    }
+
+    // Handed to PreparedStatementWrapper, null unless a listener reads the bound values
+    public List<Object> parameters() {
+        return this.parameters;
+    }
+
+    // Every mark returns right away on the shared disabled execution
+    public void connected() {
+        if (this.listeners != null) {
+            this.connectedNanos = System.nanoTime();
+        }
+    }
+
+    public void executed() {
+        if (this.listeners != null) {
+            this.executedNanos = System.nanoTime();
+        }
+    }
+
+    public long mapping() {
+        return this.listeners != null ? System.nanoTime() : 0;
+    }
+
+    public void mapped(final long mappingStartNanos) {
+        if (this.listeners != null) {
+            this.mappingNanos += System.nanoTime() - mappingStartNanos;
+        }
+    }
+
+    public void rows(final long rows) {
+        if (this.listeners != null) {
+            this.rows = rows;
+        }
+    }
+
+    public void fetchSize(final int fetchSize) {
+        if (this.listeners != null) {
+            this.fetchSize = fetchSize;
+        }
+    }
+
+    public void fallback() {
+        if (this.listeners != null) {
+            this.fallback = true;
+        }
+    }
+
+    public void failed(final Throwable failure) {
+        if (this.listeners != null) {
+            this.failure = failure;
+        }
+    }
+
+    public void complete() {
+        if (this.listeners == null) {
+            return;
+        }
+        this.completedNanos = System.nanoTime();
+        for (int index = this.listeners.length - 1; index >= 0; index--) {
+            this.listeners[index].onComplete(this, this.contexts[index]);
+        }
+    }
+
+    public Operation getOperation() {
+        return this.operation;
+    }
+
+    public SQL getSql() {
+        return this.sql;
+    }
+
+    public TxType getTxType() {
+        return this.txType;
+    }
+
+    public List<Object> getParameters() {
+        return this.parameters != null ? Collections.unmodifiableList(this.parameters) : List.of();
+    }
+
+    public long getRows() {
+        return this.rows;
+    }
+
+    public int getFetchSize() {
+        return this.fetchSize;
+    }
+
+    // Whether the UniqueViolationQuery of a failed write was run to describe the violation
+    public boolean isFallback() {
+        return this.fallback;
+    }
+
+    public Throwable getFailure() {
+        return this.failure;
+    }
+
+    public SQLStateCategory getFailureCategory() {
+        if (this.failure instanceof SQLException exception) {
+            return SQLStateCategory.of(exception.getSQLState());
+        }
+        return null;
+    }
+
+    public long getConnectNanos() {
+        return this.connectedNanos > 0 ? this.connectedNanos - this.startNanos : 0;
+    }
+
+    public long getExecuteNanos() {
+        return this.executedNanos > 0 ? this.executedNanos - this.connectedNanos : 0;
+    }
+
+    // Reading the rows interleaves fetching and mapping, the mapping share is timed separately
+    public long getFetchNanos() {
+        return this.executedNanos > 0 ? Math.max(0, this.completedNanos - this.executedNanos - this.mappingNanos) : 0;
+    }
+
+    public long getMapNanos() {
+        return this.mappingNanos;
+    }
+
+    public long getTotalNanos() {
+        return this.completedNanos - this.startNanos;
+    }
+}
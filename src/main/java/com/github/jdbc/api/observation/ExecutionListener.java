@@ -0,0 +1,24 @@
+package com.github.jdbc.api.observation;
+
+public interface ExecutionListener {
+
+    default boolean isEnabled() {
+        return true;
+    }
+
+    default boolean capturesParameters() {
+        return false;
+    }
+
+    // Transactions carry no SQL, only listeners opting in are told about them
+    default boolean observesTransactions() {
+        return false;
+    }
+
+    // The returned context is handed back on completion, e.g. a span and its scope
+    default Object onStart(final Execution execution) {
+        return null;
+    }
+
+    void onComplete(Execution execution, Object context);
+}
@@ -0,0 +1,64 @@
+package com.github.jdbc.api.observation;
+
+import com.github.jdbc.api.statement.SQL;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import java.util.Arrays;
+
+import static jakarta.transaction.Transactional.TxType;
+
+@ApplicationScoped
+public class ExecutionObserver {
+
+    private static final ExecutionObserver DISABLED = new ExecutionObserver(new ExecutionListener[0]);
+
+    private final ExecutionListener[] listeners;
+    private final ExecutionListener[] transactionListeners;
+    private final boolean captureParameters;
+
+    @Inject
+    public ExecutionObserver(final Instance<ExecutionListener> listeners) {
+        this(listeners.stream().filter(ExecutionListener::isEnabled).toArray(ExecutionListener[]::new));
+    }
+
+    public ExecutionObserver(final ExecutionListener[] listeners) {
+        this.listeners = listeners;
+        boolean captureParameters = false;
+        for (final ExecutionListener listener : listeners) {
+            captureParameters |= listener.capturesParameters();
+        }
+        this.captureParameters = captureParameters;
+        this.transactionListeners = Arrays.stream(listeners)
+                .filter(ExecutionListener::observesTransactions)
+                .toArray(ExecutionListener[]::new);
+    }
+
+    public static ExecutionObserver disabled() {
+        return DISABLED;
+    }
+
+    public Execution start(final Operation operation, final SQL sql) {
+        if (this.listeners.length == 0) {
+            return Execution.NONE;
+        }
+        final var execution = new Execution(operation, sql, operation.txType(),
+                this.listeners, this.captureParameters);
+        execution.start();
+        return execution;
+    }
+
+    public Execution startTransaction(final TxType txType) {
+        if (this.transactionListeners.length == 0) {
+            return Execution.NONE;
+        }
+        final var execution = new Execution(Operation.TRANSACTION, null, txType, this.transactionListeners, false);
+        execution.start();
+        return execution;
+    }
+
+    public boolean isEnabled() {
+        return this.listeners.length > 0;
+    }
+}
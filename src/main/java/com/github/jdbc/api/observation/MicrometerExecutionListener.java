@@ -0,0 +1,95 @@
+package com.github.jdbc.api.observation;
+
+import com.github.jdbc.api.exception.handler.SQLStateCategory;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@ApplicationScoped
+public class MicrometerExecutionListener implements ExecutionListener {
+
+    private static final String QUERY_TIMER = "postgres.query";
+    private static final String ROWS_SUMMARY = "postgres.query.rows";
+    private static final String ACQUIRE_TIMER = "postgres.connection.acquire";
+
+    private static final String SUCCESS = "success";
+    private static final String ERROR = "error";
+
+    private final MeterRegistry registry;
+    private final boolean enabled;
+    private final boolean histogram;
+
+    // Builders register or look up meters through the registry, caching them keeps the hot path to one map read
+    private final Map<MeterKey, Timer> queryTimers = new ConcurrentHashMap<>();
+    private final Map<MeterKey, DistributionSummary> rowSummaries = new ConcurrentHashMap<>();
+    private final Map<Operation, Timer> acquireTimers = new ConcurrentHashMap<>();
+
+    @Inject
+    public MicrometerExecutionListener(final MeterRegistry registry,
+                                       @ConfigProperty(name = "postgres.metrics.enabled", defaultValue = "true")
+                                       final boolean enabled,
+                                       @ConfigProperty(name = "postgres.metrics.histogram", defaultValue = "false")
+                                       final boolean histogram) {
+        this.registry = registry;
+        this.enabled = enabled;
+        // Opt-in, the buckets are multiplied by every query name the timers are tagged with
+        this.histogram = histogram;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    @Override
+    public void onComplete(final Execution execution, final Object context) {
+        final Operation operation = execution.getOperation();
+        final String query = execution.getSql().getName();
+
+        this.queryTimers.computeIfAbsent(new MeterKey(query, operation, outcome(execution)), key ->
+                Timer.builder(QUERY_TIMER)
+                        .tag("query", key.query())
+                        .tag("operation", key.operation().tag())
+                        .tag("outcome", key.outcome())
+                        .publishPercentileHistogram(this.histogram)
+                        .register(this.registry)
+        ).record(execution.getTotalNanos(), TimeUnit.NANOSECONDS);
+
+        if (execution.getRows() >= 0) {
+            this.rowSummaries.computeIfAbsent(new MeterKey(query, operation, SUCCESS), key ->
+                    DistributionSummary.builder(ROWS_SUMMARY)
+                            .tag("query", key.query())
+                            .tag("operation", key.operation().tag())
+                            .register(this.registry)
+            ).record(execution.getRows());
+        }
+
+        if (execution.getConnectNanos() > 0) {
+            this.acquireTimers.computeIfAbsent(operation, key ->
+                    Timer.builder(ACQUIRE_TIMER)
+                            .tag("operation", key.tag())
+                            .publishPercentileHistogram(this.histogram)
+                            .register(this.registry)
+            ).record(execution.getConnectNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static String outcome(final Execution execution) {
+        if (execution.getFailure() == null) {
+            return SUCCESS;
+        }
+        final SQLStateCategory category = execution.getFailureCategory();
+        return category != null ? category.name().toLowerCase(Locale.ROOT) : ERROR;
+    }
+
+    private record MeterKey(String query, Operation operation, String outcome) {
+    }
+}
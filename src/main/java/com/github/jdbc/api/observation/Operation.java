@@ -0,0 +1,35 @@
+package com.github.jdbc.api.observation;
+
+import java.util.Locale;
+
+import static jakarta.transaction.Transactional.TxType;
+
+public enum Operation {
+
+    EXECUTE(TxType.SUPPORTS),
+    SELECT(TxType.SUPPORTS),
+    SELECT_FIRST(TxType.SUPPORTS),
+    SELECT_PAGE(TxType.SUPPORTS),
+    SELECT_COLUMNAR(TxType.SUPPORTS),
+    SELECT_OFF_HEAP(TxType.SUPPORTS),
+    UPDATE(TxType.MANDATORY),
+    UPDATE_RETURNING(TxType.MANDATORY),
+    INSERT_RETURNING_UUID(TxType.MANDATORY),
+    // The transaction type of a transaction is the one it was started with
+    TRANSACTION(null);
+
+    private final String tag = this.name().toLowerCase(Locale.ROOT).replace('_', '-');
+    private final TxType txType;
+
+    Operation(final TxType txType) {
+        this.txType = txType;
+    }
+
+    public String tag() {
+        return this.tag;
+    }
+
+    public TxType txType() {
+        return this.txType;
+    }
+}
@@ -0,0 +1,124 @@
+package com.github.jdbc.api.observation;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@ApplicationScoped
+public class SlowQueryLogListener implements ExecutionListener {
+
+    private static final Logger LOG = Logger.getLogger(SlowQueryLogListener.class);
+
+    private static final int MAX_PARAMETER_LENGTH = 64;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final boolean enabled;
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final boolean redactParameters;
+
+    private final LongAdder slowQueries = new LongAdder();
+    private final LongAdder sampledQueries = new LongAdder();
+
+    @Inject
+    public SlowQueryLogListener(@ConfigProperty(name = "postgres.slow-query.enabled", defaultValue = "false")
+                                final boolean enabled,
+                                @ConfigProperty(name = "postgres.slow-query.threshold-ms", defaultValue = "500")
+                                final long thresholdMs,
+                                @ConfigProperty(name = "postgres.slow-query.sample-rate", defaultValue = "0")
+                                final double sampleRate,
+                                @ConfigProperty(name = "postgres.slow-query.redact-parameters", defaultValue = "true")
+                                final boolean redactParameters) {
+        this.enabled = enabled;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, thresholdMs));
+        this.sampleRate = Math.min(1.0, Math.max(0.0, sampleRate));
+        this.redactParameters = redactParameters;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    @Override
+    public boolean capturesParameters() {
+        return this.enabled;
+    }
+
+    @Override
+    public void onComplete(final Execution execution, final Object context) {
+        if (execution.getTotalNanos() >= this.thresholdNanos) {
+            this.slowQueries.increment();
+            if (LOG.isEnabled(Logger.Level.WARN)) {
+                LOG.warn("Slow query " + this.describe(execution));
+            }
+        } else if (this.sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < this.sampleRate) {
+            this.sampledQueries.increment();
+            if (LOG.isEnabled(Logger.Level.INFO)) {
+                LOG.info("Sampled query " + this.describe(execution));
+            }
+        }
+    }
+
+    public String describe(final Execution execution) {
+        final var builder = new StringBuilder(256)
+                .append(execution.getSql().getName())
+                .append(" (").append(execution.getOperation().tag()).append(") ")
+                .append(millis(execution.getTotalNanos())).append(" ms")
+                .append(" [connect=").append(millis(execution.getConnectNanos()))
+                .append(", execute=").append(millis(execution.getExecuteNanos()))
+                .append(", fetch=").append(millis(execution.getFetchNanos()))
+                .append(", map=").append(millis(execution.getMapNanos()))
+                .append("] rows=").append(execution.getRows());
+        if (execution.getFailure() != null) {
+            builder.append(" failed=").append(execution.getFailure().getClass().getSimpleName());
+        }
+        builder.append("\n    ").append(execution.getSql()).append("\n    parameters=");
+        this.appendParameters(builder, execution.getParameters());
+        return builder.toString();
+    }
+
+    public long getSlowQueries() {
+        return this.slowQueries.sum();
+    }
+
+    public long getSampledQueries() {
+        return this.sampledQueries.sum();
+    }
+
+    // Redacted values keep only their type, so the log shows the shape of the call and never the data
+    private void appendParameters(final StringBuilder builder, final List<Object> parameters) {
+        builder.append('[');
+        for (int index = 0; index < parameters.size(); index++) {
+            final Object parameter = parameters.get(index);
+            if (index > 0) {
+                builder.append(", ");
+            }
+            if (parameter == null) {
+                builder.append("null");
+            } else if (this.redactParameters) {
+                builder.append('<').append(parameter.getClass().getSimpleName()).append('>');
+            } else {
+                final String value = parameter.toString();
+                if (value.length() > MAX_PARAMETER_LENGTH) {
+                    builder.append('\'').append(value, 0, MAX_PARAMETER_LENGTH).append("...'");
+                } else if (parameter instanceof CharSequence) {
+                    builder.append('\'').append(value).append('\'');
+                } else {
+                    builder.append(value);
+                }
+            }
+        }
+        builder.append(']');
+    }
+
+    private static String millis(final long nanos) {
+        return "%.3f".formatted(nanos / NANOS_PER_MILLI);
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.jdbc.api.observation;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+@ApplicationScoped
+public class TracingExecutionListener implements ExecutionListener {
+
+    private static final String DB_SYSTEM_POSTGRESQL = "postgresql";
+    private static final String TRANSACTION_SPAN = "postgres.transaction";
+
+    private static final AttributeKey<String> DB_SYSTEM = AttributeKey.stringKey("db.system");
+    private static final AttributeKey<String> DB_STATEMENT = AttributeKey.stringKey("db.statement");
+    private static final AttributeKey<String> DB_OPERATION = AttributeKey.stringKey("db.operation");
+    private static final AttributeKey<String> DB_QUERY = AttributeKey.stringKey("db.postgres.query");
+    private static final AttributeKey<Long> DB_ROWS = AttributeKey.longKey("db.postgres.rows");
+    private static final AttributeKey<Long> DB_FETCH_SIZE = AttributeKey.longKey("db.postgres.fetch_size");
+    private static final AttributeKey<String> DB_TX_TYPE = AttributeKey.stringKey("db.postgres.transaction_type");
+    private static final AttributeKey<Boolean> DB_VIOLATION_FALLBACK = AttributeKey.booleanKey("db.postgres.violation_fallback");
+
+    private final Tracer tracer;
+    private final boolean enabled;
+
+    @Inject
+    public TracingExecutionListener(final Tracer tracer,
+                                    @ConfigProperty(name = "postgres.tracing.enabled", defaultValue = "false")
+                                    final boolean enabled) {
+        this.tracer = tracer;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    @Override
+    public boolean observesTransactions() {
+        return true;
+    }
+
+    @Override
+    public Object onStart(final Execution execution) {
+        final boolean transaction = execution.getOperation() == Operation.TRANSACTION;
+        final Span span = this.tracer.spanBuilder(transaction ? TRANSACTION_SPAN : execution.getSql().getName())
+                .setSpanKind(transaction ? SpanKind.INTERNAL : SpanKind.CLIENT)
+                .startSpan();
+        // A span dropped by the sampler is not recording, the statement text is then never formatted
+        if (span.isRecording()) {
+            span.setAttribute(DB_SYSTEM, DB_SYSTEM_POSTGRESQL);
+            span.setAttribute(DB_TX_TYPE, execution.getTxType().name());
+            if (!transaction) {
+                span.setAttribute(DB_OPERATION, execution.getOperation().tag());
+                span.setAttribute(DB_QUERY, execution.getSql().getName());
+                span.setAttribute(DB_STATEMENT, execution.getSql().toString());
+            }
+        }
+        return new SpanScope(span, span.makeCurrent());
+    }
+
+    @Override
+    public void onComplete(final Execution execution, final Object context) {
+        final var spanScope = (SpanScope) context;
+        final Span span = spanScope.span();
+        try {
+            if (span.isRecording()) {
+                if (execution.getRows() >= 0) {
+                    span.setAttribute(DB_ROWS, execution.getRows());
+                }
+                if (execution.getFetchSize() >= 0) {
+                    span.setAttribute(DB_FETCH_SIZE, execution.getFetchSize());
+                }
+                if (execution.isFallback()) {
+                    span.setAttribute(DB_VIOLATION_FALLBACK, true);
+                }
+                if (execution.getFailure() != null) {
+                    span.recordException(execution.getFailure());
+                    span.setStatus(StatusCode.ERROR);
+                }
+            }
+        } finally {
+            spanScope.scope().close();
+            span.end();
+        }
+    }
+
+    private record SpanScope(Span span, Scope scope) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.jdbc.api.parallel;
+
+import org.jboss.logging.Logger;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CancellationException;
+
+public final class ParallelExecution {
+
+    private static final Logger LOG = Logger.getLogger(ParallelExecution.class);
+
+    private final Statement[] statements;
+    private boolean cancelled;
+    private Throwable failure;
+
+    public ParallelExecution(final int size) {
+        this.statements = new Statement[size];
+    }
+
+    public synchronized void register(final int index, final Statement statement) {
+        if (this.cancelled) {
+            throw new CancellationException("The parallel execution was cancelled.");
+        }
+        this.statements[index] = statement;
+    }
+
+    // Holding the lock until unregistered keeps a pooled statement from being cancelled after reuse
+    public synchronized void unregister(final int index) {
+        this.statements[index] = null;
+    }
+
+    public synchronized boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    public synchronized Throwable getFailure() {
+        return this.failure;
+    }
+
+    public synchronized void fail(final Throwable failure) {
+        if (!this.cancelled) {
+            this.failure = failure;
+        }
+        this.cancel();
+    }
+
+    public synchronized void cancel() {
+        if (this.cancelled) {
+            return;
+        }
+        this.cancelled = true;
+        for (int index = 0; index < this.statements.length; index++) {
+            final Statement statement = this.statements[index];
+            if (statement == null) continue;
+            try {
+                statement.cancel();
+            } catch (SQLException exception) {
+                LOG.debugf(exception, "Cannot cancel the parallel query %d.", index);
+            }
+            this.statements[index] = null;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.jdbc.api.parallel;
+
+import com.github.jdbc.api.mapper.RowMapper;
+import com.github.jdbc.api.statement.SQL;
+
+public final class ParallelQuery<T> {
+
+    private final SQL query;
+    private final RowMapper<T> rowMapper;
+
+    public ParallelQuery(final SQL query, final RowMapper<T> rowMapper) {
+        this.query = query;
+        this.rowMapper = rowMapper;
+    }
+
+    public SQL get() {
+        return this.query;
+    }
+
+    public RowMapper<T> getRowMapper() {
+        return this.rowMapper;
+    }
+}
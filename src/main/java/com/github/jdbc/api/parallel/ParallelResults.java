@@ -0,0 +1,32 @@
+package com.github.jdbc.api.parallel;
+
+import java.util.List;
+
+public final class ParallelResults {
+
+    private final ParallelQuery<?>[] queries;
+    private final List<?>[] results;
+
+    public ParallelResults(final ParallelQuery<?>[] queries, final List<?>[] results) {
+        this.queries = queries;
+        this.results = results;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> List<T> get(final ParallelQuery<T> query) {
+        for (int index = 0; index < this.queries.length; index++) {
+            if (this.queries[index] == query) {
+                return (List<T>) this.results[index];
+            }
+        }
+        throw new IllegalArgumentException("The query was not part of this parallel execution.");
+    }
+
+    public List<?> get(final int index) {
+        return this.results[index];
+    }
+
+    public int size() {
+        return this.results.length;
+    }
+}
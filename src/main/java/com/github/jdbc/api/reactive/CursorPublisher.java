@@ -0,0 +1,172 @@
+package com.github.jdbc.api.reactive;
+
+import com.github.jdbc.api.resilience.Bulkhead;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+final class CursorPublisher<T> implements Flow.Publisher<T> {
+
+    private final Supplier<Stream<T>> cursor;
+    private final Bulkhead bulkhead;
+    private final int chunkSize;
+
+    CursorPublisher(final Supplier<Stream<T>> cursor, final Bulkhead bulkhead, final int chunkSize) {
+        this.cursor = cursor;
+        this.bulkhead = bulkhead;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    // Every subscriber opens its own cursor, nothing is read before the first request
+    @Override
+    public void subscribe(final Flow.Subscriber<? super T> subscriber) {
+        subscriber.onSubscribe(new CursorSubscription<>(subscriber, this.cursor, this.bulkhead, this.chunkSize));
+    }
+
+    private static final class CursorSubscription<T> implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+        private final Supplier<Stream<T>> cursor;
+        private final Bulkhead bulkhead;
+        private final int chunkSize;
+
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable failure;
+
+        // Only touched by the drain, which the pending counter keeps to a single thread at a time
+        private Bulkhead.Permit permit;
+        private Stream<T> stream;
+        private Iterator<T> iterator;
+        private boolean done;
+
+        private CursorSubscription(final Flow.Subscriber<? super T> subscriber, final Supplier<Stream<T>> cursor,
+                                   final Bulkhead bulkhead, final int chunkSize) {
+            this.subscriber = subscriber;
+            this.cursor = cursor;
+            this.bulkhead = bulkhead;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public void request(final long n) {
+            // Signalled by the drain, onError must not overlap another signal to the subscriber
+            if (n <= 0) {
+                this.failure = new IllegalArgumentException("The requested amount must be positive.");
+                this.schedule();
+                return;
+            }
+            this.requested.accumulateAndGet(n, (current, added) -> {
+                final long total = current + added;
+                return total < 0 ? Long.MAX_VALUE : total;
+            });
+            this.schedule();
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            this.schedule();
+        }
+
+        private void schedule() {
+            if (this.pending.getAndIncrement() != 0) {
+                return;
+            }
+            // The drains run under the cursor's own permit, taken when the stream opens
+            this.bulkhead.submitHeld(this::drain).whenComplete((result, exception) -> {
+                // No permit was granted, so the drain never ran and the pending count still makes this thread its owner
+                if (exception != null) {
+                    this.failure = exception instanceof CompletionException ? exception.getCause() : exception;
+                    this.drain();
+                }
+            });
+        }
+
+        // A drain emits at most one chunk, then hands the permit back and queues itself again
+        private Void drain() {
+            boolean more = false;
+            int missed = 1;
+            do {
+                final Throwable failure = this.failure;
+                if (failure != null) {
+                    this.fail(failure);
+                } else if (this.cancelled) {
+                    this.close();
+                } else if (!this.done) {
+                    more = this.emitChunk();
+                }
+                missed = this.pending.addAndGet(-missed);
+            } while (missed != 0);
+
+            if (more) {
+                this.schedule();
+            }
+            return null;
+        }
+
+        private boolean emitChunk() {
+            try {
+                if (this.iterator == null) {
+                    // The cursor keeps its connection idle in a transaction between chunks, so it counts until closed
+                    this.permit = this.bulkhead.acquirePermit();
+                    this.stream = this.cursor.get();
+                    this.iterator = this.stream.iterator();
+                }
+                final long demand = this.requested.get();
+                long emitted = 0;
+                while (emitted < demand && emitted < this.chunkSize && !this.cancelled && this.iterator.hasNext()) {
+                    this.subscriber.onNext(this.iterator.next());
+                    emitted++;
+                }
+                // Also checked once the demand is met, a result ending on the last requested row completes right away
+                if (!this.cancelled && !this.iterator.hasNext()) {
+                    this.done = true;
+                    this.close();
+                    this.subscriber.onComplete();
+                    return false;
+                }
+                final long remaining = demand == Long.MAX_VALUE ? demand : this.requested.addAndGet(-emitted);
+                return remaining > 0 && !this.cancelled;
+            } catch (RuntimeException exception) {
+                this.fail(exception);
+                return false;
+            }
+        }
+
+        private void fail(final Throwable exception) {
+            if (this.done) {
+                return;
+            }
+            this.done = true;
+            this.close();
+            if (!this.cancelled) {
+                this.subscriber.onError(exception);
+            }
+        }
+
+        // Closing the stream ends the cursor and hands its connection back to the pool
+        private void close() {
+            final Stream<T> stream = this.stream;
+            final Bulkhead.Permit permit = this.permit;
+            this.stream = null;
+            this.iterator = null;
+            this.permit = null;
+            try {
+                if (stream != null) {
+                    stream.close();
+                }
+            } finally {
+                if (permit != null) {
+                    permit.close();
+                }
+            }
+        }
+    }
+}
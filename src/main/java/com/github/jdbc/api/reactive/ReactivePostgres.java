@@ -0,0 +1,59 @@
+package com.github.jdbc.api.reactive;
+
+import com.github.jdbc.api.Postgres;
+import com.github.jdbc.api.mapper.RowMapper;
+import com.github.jdbc.api.resilience.Bulkhead;
+import com.github.jdbc.api.statement.SQL;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Optional;
+import java.util.UUID;
+
+// Blocking calls run on the bulkhead executor, so subscribing from an event loop never blocks it
+@ApplicationScoped
+public class ReactivePostgres {
+
+    private final Postgres postgres;
+    private final Bulkhead bulkhead;
+    private final int chunkSize;
+
+    @Inject
+    public ReactivePostgres(final Postgres postgres, final Bulkhead bulkhead,
+                            @ConfigProperty(name = "postgres.reactive.chunk-size", defaultValue = "256")
+                            final int chunkSize) {
+        this.postgres = postgres;
+        this.bulkhead = bulkhead;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    public <T> Uni<Optional<T>> selectFirst(final SQL sql, final RowMapper<T> rowMapper) {
+        return Uni.createFrom().completionStage(() -> this.postgres.executeAsync(
+                () -> this.postgres.selectFirst(sql, rowMapper)));
+    }
+
+    public <T> Multi<T> select(final SQL sql, final RowMapper<T> rowMapper) {
+        return this.select(sql, rowMapper, this.chunkSize);
+    }
+
+    // Rows are pulled from a server-side cursor one chunk per downstream request, a slow subscriber pauses the cursor
+    public <T> Multi<T> select(final SQL sql, final RowMapper<T> rowMapper, final int chunkSize) {
+        return Multi.createFrom().publisher(new CursorPublisher<>(
+                () -> this.postgres.stream(sql, rowMapper, chunkSize), this.bulkhead, chunkSize));
+    }
+
+    public Uni<Integer> update(final SQL sql) {
+        return Uni.createFrom().completionStage(() -> this.postgres.updateAsync(sql));
+    }
+
+    public Uni<UUID> insertReturningUuid(final SQL sql) {
+        return Uni.createFrom().completionStage(() -> this.postgres.insertReturningUuidAsync(sql));
+    }
+
+    public int getChunkSize() {
+        return this.chunkSize;
+    }
+}
@@ -0,0 +1,277 @@
+package com.github.jdbc.api.resilience;
+
+import com.github.jdbc.api.exception.DatabaseUnavailableException;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+@ApplicationScoped
+public class Bulkhead implements AutoCloseable {
+
+    private static final Logger LOG = Logger.getLogger(Bulkhead.class);
+    private static final Bulkhead DISABLED = new Bulkhead();
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long acquireTimeoutMillis;
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    private final PinnedThreadMonitor pinnedThreadMonitor;
+    // A thread takes one permit however many connections it nests, the outermost close hands it back
+    private final ThreadLocal<ThreadPermit> threadPermits = ThreadLocal.withInitial(ThreadPermit::new);
+
+    private final LongAdder rejections = new LongAdder();
+
+    @Inject
+    public Bulkhead(@ConfigProperty(name = "postgres.bulkhead.permits", defaultValue = "20")
+                    final int permits,
+                    @ConfigProperty(name = "postgres.bulkhead.acquire-timeout-ms", defaultValue = "5000")
+                    final long acquireTimeoutMillis,
+                    @ConfigProperty(name = "postgres.bulkhead.queue-size", defaultValue = "100")
+                    final int queueSize,
+                    @ConfigProperty(name = "postgres.async.virtual-threads", defaultValue = "true")
+                    final boolean virtualThreads,
+                    @ConfigProperty(name = "postgres.async.pinned-threshold-ms", defaultValue = "20")
+                    final long pinnedThresholdMillis) {
+        this.maxPermits = Math.max(1, permits);
+        // A fair semaphore hands permits out in arrival order, so no caller starves under a stampede
+        this.permits = new Semaphore(this.maxPermits, true);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+
+        final ExecutorService virtualThreadExecutor = virtualThreads ? virtualThreadExecutor() : null;
+        this.virtualThreads = virtualThreadExecutor != null;
+        // Platform threads are capped at the permit count, so the queue in front of them has to be bounded too
+        this.executor = this.virtualThreads ? virtualThreadExecutor
+                : new ThreadPoolExecutor(this.maxPermits, this.maxPermits, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueSize)), new PlatformThreadFactory());
+        this.pinnedThreadMonitor = this.virtualThreads && pinnedThresholdMillis > 0
+                ? new PinnedThreadMonitor(Duration.ofMillis(pinnedThresholdMillis)) : null;
+        if (virtualThreads && !this.virtualThreads) {
+            LOG.debugf("Virtual threads are not available on Java %s, using platform threads.",
+                    Runtime.version().feature());
+        }
+    }
+
+    // No permits and no executor of its own, for a Postgres built by hand
+    private Bulkhead() {
+        this.maxPermits = 0;
+        this.permits = null;
+        this.acquireTimeoutMillis = 0;
+        this.executor = ForkJoinPool.commonPool();
+        this.virtualThreads = false;
+        this.pinnedThreadMonitor = null;
+    }
+
+    public static Bulkhead disabled() {
+        return DISABLED;
+    }
+
+    public <T> CompletionStage<T> submit(final Supplier<T> task) {
+        return this.execute(() -> this.call(task));
+    }
+
+    // For a task whose connections are covered by a Permit held elsewhere, a cursor's for instance
+    public <T> CompletionStage<T> submitHeld(final Supplier<T> task) {
+        return this.execute(() -> this.hold(task));
+    }
+
+    // Held past any single task, until the caller closes it
+    public Permit acquirePermit() {
+        if (this.permits == null) {
+            return new Permit(null);
+        }
+        this.acquire();
+        return new Permit(this.permits);
+    }
+
+    public <T> T call(final Supplier<T> task) {
+        if (this.permits == null) {
+            return task.get();
+        }
+        final ThreadPermit threadPermit = this.threadPermits.get();
+        final boolean nested = threadPermit.isHeld();
+        if (!nested) {
+            this.acquire();
+        }
+        threadPermit.tasks++;
+        try {
+            return task.get();
+        } finally {
+            threadPermit.tasks--;
+            if (!nested) {
+                this.permits.release();
+            }
+        }
+    }
+
+    private <T> T hold(final Supplier<T> task) {
+        if (this.permits == null) {
+            return task.get();
+        }
+        final ThreadPermit threadPermit = this.threadPermits.get();
+        threadPermit.tasks++;
+        try {
+            return task.get();
+        } finally {
+            threadPermit.tasks--;
+        }
+    }
+
+    // A synchronous caller holds the permit for as long as its outermost connection stays open
+    public Connection checkout(final ConnectionSource source) throws SQLException {
+        if (this.permits == null) {
+            return source.getConnection();
+        }
+        final ThreadPermit threadPermit = this.threadPermits.get();
+        // Connections of a task are covered by the task's permit
+        if (threadPermit.tasks > 0) {
+            return source.getConnection();
+        }
+        if (threadPermit.connections.getAndIncrement() == 0) {
+            try {
+                this.acquire();
+            } catch (RuntimeException exception) {
+                threadPermit.connections.decrementAndGet();
+                throw exception;
+            }
+        }
+        try {
+            return new PermitConnection(source.getConnection(), threadPermit.connections, this.permits);
+        } catch (SQLException | RuntimeException | Error exception) {
+            if (threadPermit.connections.decrementAndGet() == 0) {
+                this.permits.release();
+            }
+            throw exception;
+        }
+    }
+
+    public boolean isVirtualThreads() {
+        return this.virtualThreads;
+    }
+
+    public int getAvailablePermits() {
+        return this.permits.availablePermits();
+    }
+
+    public int getMaxPermits() {
+        return this.maxPermits;
+    }
+
+    public long getRejections() {
+        return this.rejections.sum();
+    }
+
+    public long getPinnedEvents() {
+        return this.pinnedThreadMonitor != null ? this.pinnedThreadMonitor.getPinnedEvents() : 0;
+    }
+
+    @PreDestroy
+    @Override
+    public void close() {
+        if (this.pinnedThreadMonitor != null) {
+            this.pinnedThreadMonitor.close();
+        }
+        if (this != DISABLED) {
+            this.executor.shutdown();
+        }
+    }
+
+    private <T> CompletionStage<T> execute(final Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, this.executor);
+        } catch (RejectedExecutionException exception) {
+            this.rejections.increment();
+            return CompletableFuture.failedFuture(new DatabaseUnavailableException("The database task queue is full."));
+        }
+    }
+
+    private void acquire() {
+        try {
+            if (this.permits.tryAcquire(this.acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        this.rejections.increment();
+        throw new DatabaseUnavailableException("No database permit was available within %d ms."
+                .formatted(this.acquireTimeoutMillis));
+    }
+
+    // Looked up reflectively so the library still runs on Java 17
+    private static ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException exception) {
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    public interface ConnectionSource {
+
+        Connection getConnection() throws SQLException;
+    }
+
+    public static final class Permit implements AutoCloseable {
+
+        private final Semaphore permits;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(final Semaphore permits) {
+            this.permits = permits;
+        }
+
+        @Override
+        public void close() {
+            if (this.permits != null && this.released.compareAndSet(false, true)) {
+                this.permits.release();
+            }
+        }
+    }
+
+    private static final class ThreadPermit {
+
+        // Only touched by the owning thread
+        private int tasks;
+        // A connection may be closed by another thread than the one that opened it
+        private final AtomicInteger connections = new AtomicInteger();
+
+        private boolean isHeld() {
+            return this.tasks > 0 || this.connections.get() > 0;
+        }
+    }
+
+    private static final class PlatformThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final var thread = new Thread(runnable, "postgres-async-" + this.count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
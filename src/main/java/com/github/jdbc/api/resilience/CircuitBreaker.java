@@ -0,0 +1,173 @@
+package com.github.jdbc.api.resilience;
+
+import com.github.jdbc.api.exception.DatabaseUnavailableException;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+@ApplicationScoped
+public class CircuitBreaker {
+
+    private static final Logger LOG = Logger.getLogger(CircuitBreaker.class);
+
+    private static final String PROBE_SQL = "SELECT 1";
+    private static final CircuitBreaker DISABLED = new CircuitBreaker(false, 1, 0, 0, 0);
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final boolean enabled;
+    private final long windowNanos;
+    private final long openNanos;
+    private final int probeTimeoutSeconds;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    // Ring of the latest failure times, the circuit opens once the oldest one is still inside the window
+    private final long[] failures;
+    private int failureIndex;
+    private int failureCount;
+    private volatile long openedAt;
+
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder openings = new LongAdder();
+
+    @Inject
+    public CircuitBreaker(@ConfigProperty(name = "postgres.circuit-breaker.enabled", defaultValue = "true")
+                          final boolean enabled,
+                          @ConfigProperty(name = "postgres.circuit-breaker.failure-threshold", defaultValue = "5")
+                          final int failureThreshold,
+                          @ConfigProperty(name = "postgres.circuit-breaker.window-ms", defaultValue = "10000")
+                          final long windowMillis,
+                          @ConfigProperty(name = "postgres.circuit-breaker.open-ms", defaultValue = "5000")
+                          final long openMillis,
+                          @ConfigProperty(name = "postgres.circuit-breaker.probe-timeout-seconds", defaultValue = "2")
+                          final int probeTimeoutSeconds) {
+        this.enabled = enabled;
+        this.failures = new long[Math.max(1, failureThreshold)];
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+        this.probeTimeoutSeconds = probeTimeoutSeconds;
+    }
+
+    public static CircuitBreaker disabled() {
+        return DISABLED;
+    }
+
+    // A fresh breaker with the same settings, so another data source trips on its own failures only
+    public CircuitBreaker copy() {
+        if (!this.enabled) {
+            return DISABLED;
+        }
+        return new CircuitBreaker(true, this.failures.length, TimeUnit.NANOSECONDS.toMillis(this.windowNanos),
+                TimeUnit.NANOSECONDS.toMillis(this.openNanos), this.probeTimeoutSeconds);
+    }
+
+    // False while open, until the open period has elapsed and the next acquire may probe
+    public boolean isAvailable() {
+        if (!this.enabled) {
+            return true;
+        }
+        final State current = this.state.get();
+        return current == State.CLOSED
+                || current == State.OPEN && System.nanoTime() - this.openedAt >= this.openNanos;
+    }
+
+    public void acquire(final DataSource pool) {
+        if (!this.enabled) {
+            return;
+        }
+        final State current = this.state.get();
+        if (current == State.CLOSED) {
+            return;
+        }
+        if (current == State.OPEN && System.nanoTime() - this.openedAt >= this.openNanos
+                && this.state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+            this.probe(pool);
+            return;
+        }
+        this.rejections.increment();
+        throw new DatabaseUnavailableException("The database circuit breaker is %s.".formatted(current));
+    }
+
+    public void recordFailure() {
+        if (!this.enabled) {
+            return;
+        }
+        final long now = System.nanoTime();
+        synchronized (this.failures) {
+            this.failures[this.failureIndex] = now;
+            this.failureIndex = (this.failureIndex + 1) % this.failures.length;
+            this.failureCount = Math.min(this.failureCount + 1, this.failures.length);
+            final long oldest = this.failures[this.failureCount < this.failures.length ? 0 : this.failureIndex];
+            if (this.failureCount == this.failures.length && now - oldest <= this.windowNanos) {
+                this.open(now);
+            }
+        }
+    }
+
+    public State getState() {
+        return this.state.get();
+    }
+
+    public long getRejections() {
+        return this.rejections.sum();
+    }
+
+    public long getOpenings() {
+        return this.openings.sum();
+    }
+
+    private void probe(final DataSource pool) {
+        try (Connection connection = pool.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(this.probeTimeoutSeconds);
+            statement.execute(PROBE_SQL);
+        } catch (SQLException exception) {
+            LOG.debugf(exception, "The database circuit breaker probe failed.");
+            this.reopen();
+            throw new DatabaseUnavailableException(exception);
+        } catch (RuntimeException | Error exception) {
+            // Anything but a clean probe reopens, a breaker left half open would reject every call for good
+            this.reopen();
+            throw exception;
+        }
+        synchronized (this.failures) {
+            Arrays.fill(this.failures, 0);
+            this.failureIndex = 0;
+            this.failureCount = 0;
+            this.state.set(State.CLOSED);
+        }
+        LOG.info("The database circuit breaker is closed again.");
+    }
+
+    private void reopen() {
+        synchronized (this.failures) {
+            this.open(System.nanoTime());
+        }
+        this.rejections.increment();
+    }
+
+    private void open(final long now) {
+        if (this.state.get() == State.OPEN) {
+            return;
+        }
+        this.openedAt = now;
+        this.state.set(State.OPEN);
+        this.openings.increment();
+        LOG.warnf("The database circuit breaker is open for %d ms.",
+                TimeUnit.NANOSECONDS.toMillis(this.openNanos));
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.jdbc.api.resilience;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+final class PinnedThreadMonitor implements AutoCloseable {
+
+    private static final Logger LOG = Logger.getLogger(PinnedThreadMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final RecordingStream recordingStream;
+    private final LongAdder pinnedEvents = new LongAdder();
+
+    PinnedThreadMonitor(final Duration threshold) {
+        this.recordingStream = new RecordingStream();
+        this.recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        this.recordingStream.onEvent(PINNED_EVENT, this::report);
+        this.recordingStream.startAsync();
+    }
+
+    long getPinnedEvents() {
+        return this.pinnedEvents.sum();
+    }
+
+    private void report(final RecordedEvent event) {
+        this.pinnedEvents.increment();
+        if (LOG.isEnabled(Logger.Level.WARN)) {
+            LOG.warnf("A virtual thread was pinned to its carrier for %d ms at %s",
+                    event.getDuration().toMillis(), topFrame(event.getStackTrace()));
+        }
+    }
+
+    private static String topFrame(final RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "an unknown frame";
+        }
+        final List<RecordedFrame> frames = stackTrace.getFrames();
+        if (frames.isEmpty()) {
+            return "an unknown frame";
+        }
+        final RecordedFrame frame = frames.get(0);
+        return "%s.%s:%d".formatted(frame.getMethod().getType().getName(),
+                frame.getMethod().getName(), frame.getLineNumber());
+    }
+
+    @Override
+    public void close() {
+        this.recordingStream.close();
+    }
+}
@@ -0,0 +1,194 @@
+package com.github.jdbc.api.routing;
+
+import com.github.jdbc.api.resilience.CircuitBreaker;
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource.DataSourceLiteral;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.SystemException;
+import jakarta.transaction.TransactionManager;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+@ApplicationScoped
+public class ReadReplicas {
+
+    private static final Logger LOG = Logger.getLogger(ReadReplicas.class);
+
+    private static final ReadReplicas NONE = new ReadReplicas(List.of(), Balancing.ROUND_ROBIN, null,
+            CircuitBreaker.disabled());
+
+    public enum Balancing {
+        ROUND_ROBIN,
+        LEAST_OUTSTANDING
+    }
+
+    private final Replica[] replicas;
+    private final Balancing balancing;
+    private final TransactionManager transactionManager;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final LongAdder replicaRoutes = new LongAdder();
+    private final LongAdder primaryRoutes = new LongAdder();
+
+    @Inject
+    public ReadReplicas(@ConfigProperty(name = "postgres.replica.datasources") final Optional<List<String>> names,
+                        @ConfigProperty(name = "postgres.replica.balancing", defaultValue = "round-robin")
+                        final Balancing balancing,
+                        @Any final Instance<AgroalDataSource> dataSources,
+                        final TransactionManager transactionManager,
+                        final CircuitBreaker circuitBreaker) {
+        this(names.orElse(List.of()).stream()
+                .map(name -> dataSources.select(new DataSourceLiteral(name)).get())
+                .toList(), balancing, transactionManager, circuitBreaker);
+    }
+
+    // Each replica gets its own breaker with the settings of the given one
+    public ReadReplicas(final List<? extends DataSource> dataSources, final Balancing balancing,
+                        final TransactionManager transactionManager, final CircuitBreaker circuitBreaker) {
+        this.replicas = dataSources.stream()
+                .map(dataSource -> new Replica(dataSource, circuitBreaker.copy()))
+                .toArray(Replica[]::new);
+        this.balancing = balancing;
+        this.transactionManager = transactionManager;
+    }
+
+    public static ReadReplicas none() {
+        return NONE;
+    }
+
+    // Reads inside a transaction stay on the primary, they must see the transaction's own writes.
+    // Replicas whose breaker is open are skipped, with none left the read falls back to the primary
+    public Route route() {
+        final Replica replica = this.replicas.length == 0 || this.inTransaction() ? null
+                : this.balancing == Balancing.LEAST_OUTSTANDING ? this.leastOutstanding() : this.roundRobin();
+        if (replica == null) {
+            this.primaryRoutes.increment();
+            return Route.PRIMARY;
+        }
+        replica.outstanding.incrementAndGet();
+        this.replicaRoutes.increment();
+        return new Route(replica);
+    }
+
+    public int getReplicaCount() {
+        return this.replicas.length;
+    }
+
+    public long getReplicaRoutes() {
+        return this.replicaRoutes.sum();
+    }
+
+    public long getPrimaryRoutes() {
+        return this.primaryRoutes.sum();
+    }
+
+    public int getUnavailableReplicas() {
+        int unavailable = 0;
+        for (final Replica replica : this.replicas) {
+            if (!replica.circuitBreaker.isAvailable()) {
+                unavailable++;
+            }
+        }
+        return unavailable;
+    }
+
+    private boolean inTransaction() {
+        try {
+            return this.transactionManager.getStatus() != Status.STATUS_NO_TRANSACTION;
+        } catch (SystemException exception) {
+            LOG.debugf(exception, "Cannot read the transaction status, routing to the primary.");
+            return true;
+        }
+    }
+
+    private int nextIndex() {
+        return Math.floorMod(this.next.getAndIncrement(), this.replicas.length);
+    }
+
+    private Replica roundRobin() {
+        final int start = this.nextIndex();
+        for (int offset = 0; offset < this.replicas.length; offset++) {
+            final Replica replica = this.replicas[(start + offset) % this.replicas.length];
+            if (replica.circuitBreaker.isAvailable()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    // Scanning from a rotating start spreads ties instead of always favouring the first replica
+    private Replica leastOutstanding() {
+        final int start = this.nextIndex();
+        Replica selected = null;
+        int selectedOutstanding = Integer.MAX_VALUE;
+        for (int offset = 0; offset < this.replicas.length && selectedOutstanding > 0; offset++) {
+            final Replica replica = this.replicas[(start + offset) % this.replicas.length];
+            final int outstanding = replica.outstanding.get();
+            if (outstanding < selectedOutstanding && replica.circuitBreaker.isAvailable()) {
+                selected = replica;
+                selectedOutstanding = outstanding;
+            }
+        }
+        return selected;
+    }
+
+    private static final class Replica {
+
+        private final DataSource dataSource;
+        private final CircuitBreaker circuitBreaker;
+        private final AtomicInteger outstanding = new AtomicInteger();
+
+        private Replica(final DataSource dataSource, final CircuitBreaker circuitBreaker) {
+            this.dataSource = dataSource;
+            this.circuitBreaker = circuitBreaker;
+        }
+    }
+
+    public static final class Route implements AutoCloseable {
+
+        private static final Route PRIMARY = new Route(null);
+
+        private final Replica replica;
+
+        private Route(final Replica replica) {
+            this.replica = replica;
+        }
+
+        public boolean isReplica() {
+            return this.replica != null;
+        }
+
+        public Connection getConnection() throws SQLException {
+            if (this.replica == null) {
+                throw new IllegalStateException("The primary route has no replica connection.");
+            }
+            this.replica.circuitBreaker.acquire(this.replica.dataSource);
+            return this.replica.dataSource.getConnection();
+        }
+
+        public void recordFailure() {
+            if (this.replica != null) {
+                this.replica.circuitBreaker.recordFailure();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (this.replica != null) {
+                this.replica.outstanding.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.jdbc.api.row;
+
+import java.util.List;
+import java.util.Locale;
+
+public final class ColumnIndex {
+
+    private static final int NOT_FOUND = 0;
+
+    private final List<String> labels;
+    private final String[] keys;
+    private final int[] indexes;
+    private final String[] foldedKeys;
+    private final int[] foldedIndexes;
+    private final int mask;
+
+    public ColumnIndex(final List<String> labels) {
+        this.labels = List.copyOf(labels);
+        // Exact and lower-cased labels live in separate tables, each kept at most half full
+        final int capacity = Integer.highestOneBit(Math.max(4, labels.size() * 2) - 1) << 1;
+        this.keys = new String[capacity];
+        this.indexes = new int[capacity];
+        this.foldedKeys = new String[capacity];
+        this.foldedIndexes = new int[capacity];
+        this.mask = capacity - 1;
+        for (int index = 0; index < this.labels.size(); index++) {
+            final String label = this.labels.get(index);
+            this.put(this.keys, this.indexes, label, index + 1);
+            this.put(this.foldedKeys, this.foldedIndexes, label.toLowerCase(Locale.ROOT), index + 1);
+        }
+    }
+
+    // An exact match wins over a case-insensitive one, so "foo" finds the foo column even after a "Foo" column
+    public int indexOf(final String columnLabel) {
+        final int index = this.get(this.keys, this.indexes, columnLabel);
+        if (index != NOT_FOUND) {
+            return index;
+        }
+        return this.get(this.foldedKeys, this.foldedIndexes, columnLabel.toLowerCase(Locale.ROOT));
+    }
+
+    public boolean contains(final String columnLabel) {
+        return this.indexOf(columnLabel) != NOT_FOUND;
+    }
+
+    public String labelOf(final int columnIndex) {
+        return this.labels.get(columnIndex - 1);
+    }
+
+    public int size() {
+        return this.labels.size();
+    }
+
+    public List<String> labels() {
+        return this.labels;
+    }
+
+    // The first column with a given label wins, as with ResultSet#findColumn
+    private void put(final String[] keys, final int[] indexes, final String label, final int index) {
+        int slot = spread(label.hashCode()) & this.mask;
+        while (keys[slot] != null) {
+            if (keys[slot].equals(label)) {
+                return;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        keys[slot] = label;
+        indexes[slot] = index;
+    }
+
+    private int get(final String[] keys, final int[] indexes, final String label) {
+        int slot = spread(label.hashCode()) & this.mask;
+        String key;
+        while ((key = keys[slot]) != null) {
+            if (key == label || key.equals(label)) {
+                return indexes[slot];
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        return NOT_FOUND;
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,300 @@
+package com.github.jdbc.api.row;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public final class CopyRow implements Row {
+
+    private static final byte FIELD_DELIMITER = '\t';
+    private static final byte ESCAPE = '\\';
+
+    // timestamp is written as "2024-01-31 12:00:00.5", timestamptz adds the session offset such as "+00" or "+05:30"
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = new DateTimeFormatterBuilder()
+            .append(DateTimeFormatter.ISO_LOCAL_DATE)
+            .appendLiteral(' ')
+            .append(DateTimeFormatter.ISO_LOCAL_TIME)
+            .optionalStart()
+            .appendOffset("+HH:mm:ss", "+00")
+            .optionalEnd()
+            .toFormatter();
+
+    private final ColumnIndex columnIndex;
+    private final int[] starts;
+    private final int[] ends;
+
+    private byte[] line;
+    private byte[] scratch = new byte[64];
+    private boolean wasNull;
+
+    public CopyRow(final List<String> columnLabels) {
+        this.columnIndex = new ColumnIndex(columnLabels);
+        this.starts = new int[this.columnIndex.size()];
+        this.ends = new int[this.columnIndex.size()];
+    }
+
+    public void reset(final byte[] line) throws SQLException {
+        this.line = line;
+        int length = line.length;
+        if (length > 0 && line[length - 1] == '\n') {
+            length--;
+        }
+        int column = 0;
+        int start = 0;
+        for (int position = 0; position <= length; position++) {
+            if (position == length || line[position] == FIELD_DELIMITER) {
+                if (column == this.starts.length) {
+                    throw new SQLException("The COPY row has more fields than the %d expected columns."
+                            .formatted(this.starts.length));
+                }
+                this.starts[column] = start;
+                this.ends[column++] = position;
+                start = position + 1;
+            }
+        }
+        if (column != this.starts.length) {
+            throw new SQLException("The COPY row has %d fields but %d columns were expected."
+                    .formatted(column, this.starts.length));
+        }
+    }
+
+    @Override
+    public int findColumn(final String columnLabel) throws SQLException {
+        final int index = this.columnIndex.indexOf(columnLabel);
+        if (index == 0) {
+            throw new SQLException("The column name %s was not found in this COPY row.".formatted(columnLabel));
+        }
+        return index;
+    }
+
+    @Override
+    public String getFirstString() throws SQLException {
+        return this.getString(1);
+    }
+
+    @Override
+    public String getString(final String columnLabel) throws SQLException {
+        return this.getString(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public String getString(final int columnIndex) throws SQLException {
+        final int column = this.column(columnIndex);
+        if (this.isNull(column)) {
+            return null;
+        }
+        final int start = this.starts[column];
+        final int end = this.ends[column];
+        for (int position = start; position < end; position++) {
+            if (this.line[position] == ESCAPE) {
+                return this.unescape(start, end);
+            }
+        }
+        return new String(this.line, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public UUID getFirstUuid() throws SQLException {
+        return this.getUuid(1);
+    }
+
+    @Override
+    public UUID getUuid(final String columnLabel) throws SQLException {
+        return this.getUuid(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public UUID getUuid(final int columnIndex) throws SQLException {
+        final String value = this.getString(columnIndex);
+        return value != null ? UUID.fromString(value) : null;
+    }
+
+    @Override
+    public int getFirstInt() throws SQLException {
+        return this.getInt(1);
+    }
+
+    @Override
+    public int getInt(final String columnLabel) throws SQLException {
+        return this.getInt(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        final long value = this.getLong(columnIndex);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new SQLException("The value %d of column %d is out of the int range."
+                    .formatted(value, columnIndex));
+        }
+        return (int) value;
+    }
+
+    @Override
+    public short getFirstShort() throws SQLException {
+        return this.getShort(1);
+    }
+
+    @Override
+    public short getShort(final String columnLabel) throws SQLException {
+        return this.getShort(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public short getShort(final int columnIndex) throws SQLException {
+        final long value = this.getLong(columnIndex);
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+            throw new SQLException("The value %d of column %d is out of the short range."
+                    .formatted(value, columnIndex));
+        }
+        return (short) value;
+    }
+
+    @Override
+    public boolean getFirstBoolean() throws SQLException {
+        return this.getBoolean(1);
+    }
+
+    @Override
+    public boolean getBoolean(final String columnLabel) throws SQLException {
+        return this.getBoolean(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public boolean getBoolean(final int columnIndex) throws SQLException {
+        final int column = this.column(columnIndex);
+        if (this.isNull(column)) {
+            return false;
+        }
+        return this.ends[column] > this.starts[column] && this.line[this.starts[column]] == 't';
+    }
+
+    @Override
+    public LocalDateTime getFirstLocalDateTime() throws SQLException {
+        return this.getLocalDateTime(1);
+    }
+
+    @Override
+    public LocalDateTime getLocalDateTime(final String columnLabel) throws SQLException {
+        return this.getLocalDateTime(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public LocalDateTime getLocalDateTime(final int columnIndex) throws SQLException {
+        final String value = this.getString(columnIndex);
+        if (value == null) {
+            return null;
+        }
+        final TemporalAccessor timestamp = TIMESTAMP_FORMATTER.parse(value);
+        if (!timestamp.isSupported(ChronoField.OFFSET_SECONDS)) {
+            return LocalDateTime.from(timestamp);
+        }
+        // Same instant in the JVM zone, as pgjdbc reads a timestamptz through getTimestamp
+        return OffsetDateTime.from(timestamp).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+
+    @Override
+    public LocalDate getFirstLocalDate() throws SQLException {
+        return this.getLocalDate(1);
+    }
+
+    @Override
+    public LocalDate getLocalDate(final String columnLabel) throws SQLException {
+        return this.getLocalDate(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public LocalDate getLocalDate(final int columnIndex) throws SQLException {
+        final String value = this.getString(columnIndex);
+        return value != null ? LocalDate.parse(value) : null;
+    }
+
+    @Override
+    public boolean wasNull() {
+        return this.wasNull;
+    }
+
+    @Override
+    public Map<String, Object> map() throws SQLException {
+        final var map = new HashMap<String, Object>();
+        for (int index = 1; index <= this.columnIndex.size(); index++) {
+            final String value = this.getString(index);
+            if (value == null) continue;
+            map.put(this.columnIndex.labelOf(index), value);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    private long getLong(final int columnIndex) throws SQLException {
+        final int column = this.column(columnIndex);
+        if (this.isNull(column)) {
+            return 0;
+        }
+        int position = this.starts[column];
+        final int end = this.ends[column];
+        final boolean negative = position < end && this.line[position] == '-';
+        if (negative) {
+            position++;
+        }
+        if (position == end) {
+            throw new SQLException("The column %d is not an integer.".formatted(columnIndex));
+        }
+        long value = 0;
+        for (; position < end; position++) {
+            final int digit = this.line[position] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new SQLException("The column %d is not an integer.".formatted(columnIndex));
+            }
+            value = value * 10 - digit;
+        }
+        return negative ? value : -value;
+    }
+
+    private int column(final int columnIndex) throws SQLException {
+        if (columnIndex < 1 || columnIndex > this.starts.length) {
+            throw new SQLException("The column index %d is out of range.".formatted(columnIndex));
+        }
+        return columnIndex - 1;
+    }
+
+    private boolean isNull(final int column) {
+        final int start = this.starts[column];
+        this.wasNull = this.ends[column] - start == 2
+                && this.line[start] == ESCAPE && this.line[start + 1] == 'N';
+        return this.wasNull;
+    }
+
+    private String unescape(final int start, final int end) {
+        if (this.scratch.length < end - start) {
+            this.scratch = new byte[Math.max(end - start, this.scratch.length << 1)];
+        }
+        int length = 0;
+        for (int position = start; position < end; position++) {
+            byte b = this.line[position];
+            if (b == ESCAPE && position + 1 < end) {
+                b = switch (this.line[++position]) {
+                    case 'b' -> '\b';
+                    case 'f' -> '\f';
+                    case 'n' -> '\n';
+                    case 'r' -> '\r';
+                    case 't' -> '\t';
+                    case 'v' -> 0x0B;
+                    default -> this.line[position];
+                };
+            }
+            this.scratch[length++] = b;
+        }
+        return new String(this.scratch, 0, length, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.jdbc.api.row;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+@ApplicationScoped
+public class OffHeapArena {
+
+    private static final long DEFAULT_BUDGET_BYTES = 64L << 20;
+    private static final int DEFAULT_SEGMENT_BYTES = 1 << 20;
+
+    private final long budgetBytes;
+    private final int segmentBytes;
+    private final Path spillDirectory;
+
+    private final LongAdder rowSets = new LongAdder();
+    private final LongAdder spilledRowSets = new LongAdder();
+
+    @Inject
+    public OffHeapArena(@ConfigProperty(name = "postgres.off-heap.memory-budget-bytes", defaultValue = "67108864")
+                        final long budgetBytes,
+                        @ConfigProperty(name = "postgres.off-heap.segment-bytes", defaultValue = "1048576")
+                        final int segmentBytes,
+                        @ConfigProperty(name = "postgres.off-heap.spill-directory")
+                        final Optional<String> spillDirectory) {
+        if (segmentBytes <= 0) {
+            throw new IllegalArgumentException("The off-heap segment size must be greater than zero.");
+        }
+        this.budgetBytes = Math.max(0, budgetBytes);
+        this.segmentBytes = segmentBytes;
+        this.spillDirectory = Path.of(spillDirectory.orElse(System.getProperty("java.io.tmpdir")));
+    }
+
+    public static OffHeapArena defaults() {
+        return new OffHeapArena(DEFAULT_BUDGET_BYTES, DEFAULT_SEGMENT_BYTES, Optional.empty());
+    }
+
+    public OffHeapRowSet read(final ResultSet resultSet) throws SQLException {
+        final var storage = new OffHeapStorage(this.budgetBytes, this.segmentBytes, this.spillDirectory);
+        try {
+            final OffHeapRowSet rowSet = OffHeapRowSet.read(resultSet, storage);
+            this.rowSets.increment();
+            if (storage.isSpilled()) {
+                this.spilledRowSets.increment();
+            }
+            return rowSet;
+        } catch (SQLException | RuntimeException exception) {
+            storage.close();
+            throw exception;
+        } catch (IOException exception) {
+            storage.close();
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    public long getBudgetBytes() {
+        return this.budgetBytes;
+    }
+
+    public long getRowSets() {
+        return this.rowSets.sum();
+    }
+
+    public long getSpilledRowSets() {
+        return this.spilledRowSets.sum();
+    }
+}
@@ -0,0 +1,348 @@
+package com.github.jdbc.api.row;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public final class OffHeapRowSet implements Row, Cursor {
+
+    private static final int NULL_LENGTH = -1;
+
+    private final ColumnIndex columnIndex;
+    private final OffHeapStorage storage;
+    private final int[] starts;
+    private final int[] lengths;
+
+    private int row = -1;
+    private ByteBuffer segment;
+    private byte[] scratch = new byte[64];
+    private boolean wasNull;
+    private boolean closed;
+
+    private OffHeapRowSet(final ColumnIndex columnIndex, final OffHeapStorage storage) {
+        this.columnIndex = columnIndex;
+        this.storage = storage;
+        this.starts = new int[columnIndex.size()];
+        this.lengths = new int[columnIndex.size()];
+    }
+
+    // Each value is stored as its text form behind a length prefix, -1 marking SQL NULL
+    static OffHeapRowSet read(final ResultSet resultSet, final OffHeapStorage storage) throws SQLException, IOException {
+        final ResultSetMetaData metaData = resultSet.getMetaData();
+        final int columnCount = metaData.getColumnCount();
+        final List<String> labels = new ArrayList<>(columnCount);
+        for (int column = 1; column <= columnCount; column++) {
+            labels.add(metaData.getColumnLabel(column));
+        }
+
+        final var values = new byte[columnCount][];
+        while (resultSet.next()) {
+            int rowBytes = 0;
+            for (int column = 0; column < columnCount; column++) {
+                final String value = resultSet.getString(column + 1);
+                values[column] = value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+                rowBytes += Integer.BYTES + (value != null ? values[column].length : 0);
+            }
+            final long address = storage.allocate(rowBytes);
+            final ByteBuffer segment = storage.segment(address);
+            int offset = (int) address;
+            for (final byte[] value : values) {
+                if (value == null) {
+                    segment.putInt(offset, NULL_LENGTH);
+                    offset += Integer.BYTES;
+                    continue;
+                }
+                segment.putInt(offset, value.length);
+                segment.put(offset + Integer.BYTES, value);
+                offset += Integer.BYTES + value.length;
+            }
+            storage.addRow(address);
+        }
+        return new OffHeapRowSet(new ColumnIndex(labels), storage);
+    }
+
+    public int size() {
+        return this.storage.rows();
+    }
+
+    public int getRow() {
+        return this.row;
+    }
+
+    public boolean isSpilled() {
+        return this.storage.isSpilled();
+    }
+
+    public long getDirectBytes() {
+        return this.storage.getDirectBytes();
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        if (this.row + 1 >= this.storage.rows()) {
+            this.row = this.storage.rows();
+            this.segment = null;
+            return false;
+        }
+        this.seek(this.row + 1);
+        return true;
+    }
+
+    // Positions the cursor before the first row, as after reading
+    public void rewind() {
+        this.row = -1;
+        this.segment = null;
+    }
+
+    public void seek(final int row) throws SQLException {
+        this.checkOpen();
+        if (row < 0 || row >= this.storage.rows()) {
+            throw new SQLException("The row %d is out of the %d rows of this set.".formatted(row, this.storage.rows()));
+        }
+        final long address = this.storage.address(row);
+        final ByteBuffer segment = this.storage.segment(address);
+        int offset = (int) address;
+        for (int column = 0; column < this.starts.length; column++) {
+            final int length = segment.getInt(offset);
+            offset += Integer.BYTES;
+            this.starts[column] = offset;
+            this.lengths[column] = length;
+            if (length > 0) {
+                offset += length;
+            }
+        }
+        this.row = row;
+        this.segment = segment;
+    }
+
+    @Override
+    public void close() {
+        if (!this.closed) {
+            this.closed = true;
+            this.segment = null;
+            this.storage.close();
+        }
+    }
+
+    @Override
+    public int findColumn(final String columnLabel) throws SQLException {
+        final int index = this.columnIndex.indexOf(columnLabel);
+        if (index == 0) {
+            throw new SQLException("The column name %s was not found in this row set.".formatted(columnLabel));
+        }
+        return index;
+    }
+
+    @Override
+    public String getFirstString() throws SQLException {
+        return this.getString(1);
+    }
+
+    @Override
+    public String getString(final String columnLabel) throws SQLException {
+        return this.getString(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public String getString(final int columnIndex) throws SQLException {
+        final int column = this.column(columnIndex);
+        if (this.isNull(column)) {
+            return null;
+        }
+        final int length = this.lengths[column];
+        if (this.scratch.length < length) {
+            this.scratch = new byte[Math.max(length, this.scratch.length << 1)];
+        }
+        this.segment.get(this.starts[column], this.scratch, 0, length);
+        return new String(this.scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public UUID getFirstUuid() throws SQLException {
+        return this.getUuid(1);
+    }
+
+    @Override
+    public UUID getUuid(final String columnLabel) throws SQLException {
+        return this.getUuid(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public UUID getUuid(final int columnIndex) throws SQLException {
+        final String value = this.getString(columnIndex);
+        return value != null ? UUID.fromString(value) : null;
+    }
+
+    @Override
+    public int getFirstInt() throws SQLException {
+        return this.getInt(1);
+    }
+
+    @Override
+    public int getInt(final String columnLabel) throws SQLException {
+        return this.getInt(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        final long value = this.getLong(columnIndex);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new SQLException("The value %d of column %d is out of the int range."
+                    .formatted(value, columnIndex));
+        }
+        return (int) value;
+    }
+
+    @Override
+    public short getFirstShort() throws SQLException {
+        return this.getShort(1);
+    }
+
+    @Override
+    public short getShort(final String columnLabel) throws SQLException {
+        return this.getShort(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public short getShort(final int columnIndex) throws SQLException {
+        final long value = this.getLong(columnIndex);
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+            throw new SQLException("The value %d of column %d is out of the short range."
+                    .formatted(value, columnIndex));
+        }
+        return (short) value;
+    }
+
+    @Override
+    public boolean getFirstBoolean() throws SQLException {
+        return this.getBoolean(1);
+    }
+
+    @Override
+    public boolean getBoolean(final String columnLabel) throws SQLException {
+        return this.getBoolean(this.findColumn(columnLabel));
+    }
+
+    // The driver renders booleans as t/f or true/false depending on the column type
+    @Override
+    public boolean getBoolean(final int columnIndex) throws SQLException {
+        final int column = this.column(columnIndex);
+        if (this.isNull(column) || this.lengths[column] == 0) {
+            return false;
+        }
+        final byte first = this.segment.get(this.starts[column]);
+        return first == 't' || first == 'T' || first == '1';
+    }
+
+    @Override
+    public LocalDateTime getFirstLocalDateTime() throws SQLException {
+        return this.getLocalDateTime(1);
+    }
+
+    @Override
+    public LocalDateTime getLocalDateTime(final String columnLabel) throws SQLException {
+        return this.getLocalDateTime(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public LocalDateTime getLocalDateTime(final int columnIndex) throws SQLException {
+        final String value = this.getString(columnIndex);
+        return value != null ? LocalDateTime.parse(value.replace(' ', 'T')) : null;
+    }
+
+    @Override
+    public LocalDate getFirstLocalDate() throws SQLException {
+        return this.getLocalDate(1);
+    }
+
+    @Override
+    public LocalDate getLocalDate(final String columnLabel) throws SQLException {
+        return this.getLocalDate(this.findColumn(columnLabel));
+    }
+
+    @Override
+    public LocalDate getLocalDate(final int columnIndex) throws SQLException {
+        final String value = this.getString(columnIndex);
+        return value != null ? LocalDate.parse(value) : null;
+    }
+
+    @Override
+    public boolean wasNull() {
+        return this.wasNull;
+    }
+
+    @Override
+    public Map<String, Object> map() throws SQLException {
+        final var map = new HashMap<String, Object>();
+        for (int index = 1; index <= this.columnIndex.size(); index++) {
+            final String value = this.getString(index);
+            if (value == null) continue;
+            map.put(this.columnIndex.labelOf(index), value);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    private long getLong(final int columnIndex) throws SQLException {
+        final int column = this.column(columnIndex);
+        if (this.isNull(column)) {
+            return 0;
+        }
+        int position = this.starts[column];
+        final int end = position + this.lengths[column];
+        final boolean negative = position < end && this.segment.get(position) == '-';
+        if (negative) {
+            position++;
+        }
+        if (position == end) {
+            throw new SQLException("The column %d is not an integer.".formatted(columnIndex));
+        }
+        // Accumulated negatively like Long.parseLong, the negative range holds Long.MIN_VALUE
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long value = 0;
+        for (; position < end; position++) {
+            final int digit = this.segment.get(position) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new SQLException("The column %d is not an integer.".formatted(columnIndex));
+            }
+            if (value < limit / 10 || value * 10 < limit + digit) {
+                throw new SQLException("The value of column %d is out of the long range.".formatted(columnIndex));
+            }
+            value = value * 10 - digit;
+        }
+        return negative ? value : -value;
+    }
+
+    // The buffers are released on close, reading them afterwards would touch freed memory
+    private int column(final int columnIndex) throws SQLException {
+        this.checkOpen();
+        if (this.segment == null) {
+            throw new SQLException("The cursor is not positioned on a row.");
+        }
+        if (columnIndex < 1 || columnIndex > this.starts.length) {
+            throw new SQLException("The column index %d is out of range.".formatted(columnIndex));
+        }
+        return columnIndex - 1;
+    }
+
+    private boolean isNull(final int column) {
+        this.wasNull = this.lengths[column] == NULL_LENGTH;
+        return this.wasNull;
+    }
+
+    private void checkOpen() throws SQLException {
+        if (this.closed) {
+            throw new SQLException("The off-heap row set is closed.");
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.github.jdbc.api.row;
+
+import org.jboss.logging.Logger;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// Rows live in direct buffers until the budget is used, later segments are mapped from a temp file
+final class OffHeapStorage implements AutoCloseable {
+
+    private static final Logger LOG = Logger.getLogger(OffHeapStorage.class);
+
+    private static final int INDEX_CHUNK_SHIFT = 12;
+    private static final int INDEX_CHUNK_SIZE = 1 << INDEX_CHUNK_SHIFT;
+    private static final int INDEX_CHUNK_MASK = INDEX_CHUNK_SIZE - 1;
+
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    // Without the cleaner hook the buffers are released when the garbage collector reclaims them
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            LOG.debugf(exception, "Off-heap buffers cannot be released eagerly.");
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private final long budgetBytes;
+    private final int segmentBytes;
+    private final Path spillDirectory;
+
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    private final List<ByteBuffer> indexChunks = new ArrayList<>();
+    private ByteBuffer current;
+    private int currentOffset;
+    private long directBytes;
+    private int rows;
+
+    private Path spillPath;
+    private FileChannel spillChannel;
+    private long spillBytes;
+
+    OffHeapStorage(final long budgetBytes, final int segmentBytes, final Path spillDirectory) {
+        this.budgetBytes = budgetBytes;
+        this.segmentBytes = segmentBytes;
+        this.spillDirectory = spillDirectory;
+    }
+
+    // The address holds the segment in the high and the offset in the low 32 bits, rows never straddle segments
+    long allocate(final int bytes) throws IOException {
+        if (this.current == null || this.current.capacity() - this.currentOffset < bytes) {
+            this.current = this.newBuffer(Math.max(bytes, this.segmentBytes));
+            this.segments.add(this.current);
+            this.currentOffset = 0;
+        }
+        final long address = ((long) (this.segments.size() - 1) << 32) | this.currentOffset;
+        this.currentOffset += bytes;
+        return address;
+    }
+
+    // The row index counts against the same budget as the rows and spills with them
+    void addRow(final long address) throws IOException {
+        final int chunk = this.rows >>> INDEX_CHUNK_SHIFT;
+        if (chunk == this.indexChunks.size()) {
+            this.indexChunks.add(this.newBuffer(INDEX_CHUNK_SIZE * Long.BYTES));
+        }
+        this.indexChunks.get(chunk).putLong((this.rows & INDEX_CHUNK_MASK) * Long.BYTES, address);
+        this.rows++;
+    }
+
+    long address(final int row) {
+        return this.indexChunks.get(row >>> INDEX_CHUNK_SHIFT).getLong((row & INDEX_CHUNK_MASK) * Long.BYTES);
+    }
+
+    ByteBuffer segment(final long address) {
+        return this.segments.get((int) (address >>> 32));
+    }
+
+    int rows() {
+        return this.rows;
+    }
+
+    boolean isSpilled() {
+        return this.spillChannel != null;
+    }
+
+    long getDirectBytes() {
+        return this.directBytes;
+    }
+
+    long getSpillBytes() {
+        return this.spillBytes;
+    }
+
+    @Override
+    public void close() {
+        for (final ByteBuffer segment : this.segments) {
+            release(segment);
+        }
+        for (final ByteBuffer indexChunk : this.indexChunks) {
+            release(indexChunk);
+        }
+        this.segments.clear();
+        this.indexChunks.clear();
+        this.current = null;
+        if (this.spillChannel != null) {
+            try {
+                this.spillChannel.close();
+            } catch (IOException exception) {
+                LOG.debugf(exception, "Cannot close the spill file %s.", this.spillPath);
+            }
+            this.spillChannel = null;
+        }
+    }
+
+    private ByteBuffer newBuffer(final int bytes) throws IOException {
+        if (this.directBytes + bytes <= this.budgetBytes) {
+            this.directBytes += bytes;
+            return ByteBuffer.allocateDirect(bytes);
+        }
+        if (this.spillChannel == null) {
+            this.spillPath = Files.createTempFile(this.spillDirectory, "postgres-rows-", ".spill");
+            this.spillChannel = FileChannel.open(this.spillPath, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+        }
+        final MappedByteBuffer segment = this.spillChannel.map(FileChannel.MapMode.READ_WRITE, this.spillBytes, bytes);
+        this.spillBytes += bytes;
+        return segment;
+    }
+
+    private static void release(final ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null || !buffer.isDirect()) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            LOG.debugf(exception, "Cannot release an off-heap buffer eagerly.");
+        }
+    }
+}
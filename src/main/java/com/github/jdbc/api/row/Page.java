@@ -0,0 +1,23 @@
+package com.github.jdbc.api.row;
+
+import com.github.jdbc.api.statement.Keyset;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+public record Page<T>(List<T> items, Keyset next) {
+
+    public Page {
+        items = Collections.unmodifiableList(items);
+    }
+
+    public boolean hasNext() {
+        return this.next != null;
+    }
+
+    public Optional<Keyset> getNext() {
+        return Optional.ofNullable(this.next);
+    }
+
+}
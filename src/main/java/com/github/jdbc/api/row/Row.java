@@ -8,6 +8,8 @@ import java.util.UUID;
 
 public interface Row {
 
+    int findColumn(String columnLabel) throws SQLException;
+
     String getFirstString() throws SQLException;
     String getString(String columnLabel) throws SQLException;
     String getString(int columnIndex) throws SQLException;
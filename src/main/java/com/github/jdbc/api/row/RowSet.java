@@ -5,14 +5,17 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 public final class RowSet implements Row, Cursor {
 
     private final ResultSet resultSet;
+    private ColumnIndex columnIndex;
 
     public RowSet(final ResultSet resultSet) {
         this.resultSet = resultSet;
@@ -28,6 +31,12 @@ public final class RowSet implements Row, Cursor {
         this.resultSet.close();
     }
 
+    @Override
+    public int findColumn(final String columnLabel) throws SQLException {
+        final int index = this.columnIndex().indexOf(columnLabel);
+        return index > 0 ? index : this.resultSet.findColumn(columnLabel);
+    }
+
     @Override
     public String getFirstString() throws SQLException {
         return this.getString(1);
@@ -35,7 +44,7 @@ public final class RowSet implements Row, Cursor {
 
     @Override
     public String getString(final String columnLabel) throws SQLException {
-        return this.getString(this.resultSet.findColumn(columnLabel));
+        return this.getString(this.findColumn(columnLabel));
     }
 
     @Override
@@ -43,6 +52,10 @@ public final class RowSet implements Row, Cursor {
         return this.resultSet.getString(columnIndex);
     }
 
+    public Object getObject(final int columnIndex) throws SQLException {
+        return this.resultSet.getObject(columnIndex);
+    }
+
     @Override
     public UUID getFirstUuid() throws SQLException {
         return this.getUuid(1);
@@ -50,7 +63,7 @@ public final class RowSet implements Row, Cursor {
 
     @Override
     public UUID getUuid(final String columnLabel) throws SQLException {
-        return this.getUuid(this.resultSet.findColumn(columnLabel));
+        return this.getUuid(this.findColumn(columnLabel));
     }
 
     @Override
@@ -65,7 +78,7 @@ public final class RowSet implements Row, Cursor {
 
     @Override
     public int getInt(final String columnLabel) throws SQLException {
-        return this.getInt(this.resultSet.findColumn(columnLabel));
+        return this.getInt(this.findColumn(columnLabel));
     }
 
     @Override
@@ -80,7 +93,7 @@ public final class RowSet implements Row, Cursor {
 
     @Override
     public short getShort(final String columnLabel) throws SQLException {
-        return this.getShort(this.resultSet.findColumn(columnLabel));
+        return this.getShort(this.findColumn(columnLabel));
     }
 
     @Override
@@ -95,7 +108,7 @@ public final class RowSet implements Row, Cursor {
 
     @Override
     public boolean getBoolean(final String columnLabel) throws SQLException {
-        return this.getBoolean(this.resultSet.findColumn(columnLabel));
+        return this.getBoolean(this.findColumn(columnLabel));
     }
 
     @Override
@@ -110,7 +123,7 @@ public final class RowSet implements Row, Cursor {
 
     @Override
     public LocalDateTime getLocalDateTime(final String columnLabel) throws SQLException {
-        return this.getLocalDateTime(this.resultSet.findColumn(columnLabel));
+        return this.getLocalDateTime(this.findColumn(columnLabel));
     }
 
     @Override
@@ -125,7 +138,7 @@ public final class RowSet implements Row, Cursor {
 
     @Override
     public LocalDate getLocalDate(final String columnLabel) throws SQLException {
-        return this.getLocalDate(this.resultSet.findColumn(columnLabel));
+        return this.getLocalDate(this.findColumn(columnLabel));
     }
 
     @Override
@@ -141,15 +154,27 @@ public final class RowSet implements Row, Cursor {
     @Override
     public Map<String, Object> map() throws SQLException {
         final var map = new HashMap<String, Object>();
-        final ResultSetMetaData metaData = this.resultSet.getMetaData();
-        final int columnCount = metaData.getColumnCount();
+        final ColumnIndex columnIndex = this.columnIndex();
+        final int columnCount = columnIndex.size();
         for (int index = 1; index <= columnCount; index++) {
-            final String columnLabel = metaData.getColumnLabel(index);
+            final String columnLabel = columnIndex.labelOf(index);
             final Object object = this.resultSet.getObject(index);
             if (this.resultSet.wasNull() || object == null) continue;
             map.put(columnLabel, object);
         }
         return Collections.unmodifiableMap(map);
     }
-}
 
+    private ColumnIndex columnIndex() throws SQLException {
+        if (this.columnIndex == null) {
+            final ResultSetMetaData metaData = this.resultSet.getMetaData();
+            final int columnCount = metaData.getColumnCount();
+            final List<String> columnLabels = new ArrayList<>(columnCount);
+            for (int index = 1; index <= columnCount; index++) {
+                columnLabels.add(metaData.getColumnLabel(index));
+            }
+            this.columnIndex = new ColumnIndex(columnLabels);
+        }
+        return this.columnIndex;
+    }
+}
@@ -0,0 +1,146 @@
+package com.github.jdbc.api.row;
+
+import com.github.jdbc.api.mapper.RowMapper;
+import com.github.jdbc.api.statement.PreparedStatementWrapper;
+import com.github.jdbc.api.statement.SQL;
+import com.github.jdbc.api.statement.StatementCache;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+public final class RowStream<T> extends Spliterators.AbstractSpliterator<T> implements AutoCloseable {
+
+    private final StatementCache statementCache;
+    private final Connection connection;
+    private final RowMapper<T> rowMapper;
+    private final Consumer<SQLException> exceptionConsumer;
+
+    private boolean restoreAutoCommit;
+    private PreparedStatementWrapper statementWrapper;
+    private RowSet rowSet;
+    private boolean closed;
+
+    public RowStream(final StatementCache statementCache, final Connection connection,
+                     final RowMapper<T> rowMapper, final Consumer<SQLException> exceptionConsumer) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.statementCache = statementCache;
+        this.connection = connection;
+        this.rowMapper = rowMapper;
+        this.exceptionConsumer = exceptionConsumer;
+    }
+
+    public RowStream<T> open(final SQL sql, final int fetchSize) {
+        try {
+            // pgjdbc only honours the fetch size (cursor based fetching) outside autocommit mode
+            if (this.connection.getAutoCommit()) {
+                this.connection.setAutoCommit(false);
+                this.restoreAutoCommit = true;
+            }
+            this.statementWrapper = new PreparedStatementWrapper(this.statementCache, this.connection, sql);
+            final PreparedStatement preparedStatement = this.statementWrapper.getDelegate();
+            preparedStatement.setFetchSize(fetchSize);
+            this.rowSet = new RowSet(preparedStatement.executeQuery());
+        } catch (SQLException exception) {
+            this.fail(exception);
+        } catch (RuntimeException | Error exception) {
+            this.abort(exception);
+            throw exception;
+        }
+        return this;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        if (this.closed) {
+            return false;
+        }
+        try {
+            if (this.rowSet.next()) {
+                action.accept(this.rowMapper.mapRow(this.rowSet));
+                return true;
+            }
+        } catch (SQLException exception) {
+            this.fail(exception);
+        } catch (RuntimeException | Error exception) {
+            // A failing mapper or consumer must not leak the connection with autocommit still off
+            this.abort(exception);
+            throw exception;
+        }
+        this.close();
+        return false;
+    }
+
+    @Override
+    public void close() {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+
+        final SQLException exception = this.release();
+        if (exception != null) {
+            this.exceptionConsumer.accept(exception);
+        }
+    }
+
+    private void fail(final SQLException exception) {
+        this.closed = true;
+        final SQLException releaseException = this.release();
+        if (releaseException != null) {
+            exception.addSuppressed(releaseException);
+        }
+        this.exceptionConsumer.accept(exception);
+    }
+
+    private void abort(final Throwable exception) {
+        this.closed = true;
+        final SQLException releaseException = this.release();
+        if (releaseException != null) {
+            exception.addSuppressed(releaseException);
+        }
+    }
+
+    private SQLException release() {
+        SQLException exception = null;
+        try {
+            if (this.rowSet != null) {
+                this.rowSet.close();
+            }
+        } catch (SQLException e) {
+            exception = e;
+        }
+        try {
+            if (this.statementWrapper != null) {
+                this.statementWrapper.close();
+            }
+        } catch (SQLException e) {
+            exception = chain(exception, e);
+        }
+        try {
+            if (this.restoreAutoCommit) {
+                this.connection.commit();
+                this.connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            exception = chain(exception, e);
+        }
+        try {
+            this.connection.close();
+        } catch (SQLException e) {
+            exception = chain(exception, e);
+        }
+        return exception;
+    }
+
+    private static SQLException chain(final SQLException first, final SQLException next) {
+        if (first == null) {
+            return next;
+        }
+        first.addSuppressed(next);
+        return first;
+    }
+}
@@ -0,0 +1,66 @@
+package com.github.jdbc.api.statement;
+
+import java.util.Arrays;
+import java.util.List;
+
+public final class Keyset {
+
+    private final List<String> columns;
+    private final boolean descending;
+    private final Object[] values;
+
+    private Keyset(final List<String> columns, final boolean descending, final Object[] values) {
+        this.columns = columns;
+        this.descending = descending;
+        this.values = values;
+    }
+
+    public static Keyset ascending(final String... columns) {
+        return new Keyset(columns(columns), false, null);
+    }
+
+    public static Keyset descending(final String... columns) {
+        return new Keyset(columns(columns), true, null);
+    }
+
+    public Keyset after(final Object... values) {
+        if (values.length != this.columns.size()) {
+            throw new IllegalArgumentException("The keyset expects %d values but %d were given."
+                    .formatted(this.columns.size(), values.length));
+        }
+        return new Keyset(this.columns, this.descending, values.clone());
+    }
+
+    public List<String> getColumns() {
+        return this.columns;
+    }
+
+    public boolean isDescending() {
+        return this.descending;
+    }
+
+    public boolean isFirstPage() {
+        return this.values == null;
+    }
+
+    public List<Object> getValues() {
+        return this.values != null ? Arrays.asList(this.values.clone()) : List.of();
+    }
+
+    Object[] values() {
+        return this.values;
+    }
+
+    private static List<String> columns(final String[] columns) {
+        if (columns.length == 0) {
+            throw new IllegalArgumentException("The keyset needs at least one column.");
+        }
+        return List.of(columns);
+    }
+
+    @Override
+    public String toString() {
+        return "Keyset" + this.columns + (this.values != null ? " after " + Arrays.toString(this.values) : "");
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.github.jdbc.api.statement;
+
+import java.util.Locale;
+
+public final class KeysetQuery extends SQL {
+
+    private final Keyset keyset;
+    private final int limit;
+
+    // The query is wrapped so its own WHERE clause stays untouched. A plain SELECT ... WHERE subquery is
+    // flattened by the planner, which then seeks on the key index; an inner ORDER BY, LIMIT/OFFSET/FETCH or
+    // DISTINCT stops that and sorts the whole result on every page, so such queries are rejected
+    public KeysetQuery(final SQL sql, final Keyset keyset, final int limit) {
+        super(seek(checkFlattenable(sql.text), keyset), sql.preparedStatementHandler, sql);
+        if (limit <= 0) {
+            throw new IllegalArgumentException("The keyset page size must be positive.");
+        }
+        this.keyset = keyset;
+        this.limit = limit;
+    }
+
+    @Override
+    public KeysetQuery named(final String name) {
+        return new KeysetQuery(this.origin().named(name), this.keyset, this.limit);
+    }
+
+    public Keyset getKeyset() {
+        return this.keyset;
+    }
+
+    public int getLimit() {
+        return this.limit;
+    }
+
+    private static String checkFlattenable(final String text) {
+        final String clause = topLevelClause(text);
+        if (clause != null) {
+            throw new IllegalArgumentException(("The keyset query cannot have its own %s clause, "
+                    + "the keyset adds the ordering and the page size.").formatted(clause));
+        }
+        return text;
+    }
+
+    // Only words outside parentheses, literals, quoted identifiers and comments belong to the outer query
+    private static String topLevelClause(final String text) {
+        final int length = text.length();
+        int depth = 0;
+        String previousWord = null;
+        int index = 0;
+        while (index < length) {
+            final char c = text.charAt(index);
+            if (c == '\'' || c == '"') {
+                final int end = text.indexOf(c, index + 1);
+                index = end < 0 ? length : end + 1;
+            } else if (c == '-' && index + 1 < length && text.charAt(index + 1) == '-') {
+                final int end = text.indexOf('\n', index);
+                index = end < 0 ? length : end + 1;
+            } else if (c == '(') {
+                depth++;
+                index++;
+            } else if (c == ')') {
+                depth--;
+                index++;
+            } else if (Character.isLetter(c) || c == '_') {
+                final int start = index;
+                while (index < length && (Character.isLetterOrDigit(text.charAt(index)) || text.charAt(index) == '_')) {
+                    index++;
+                }
+                if (depth == 0) {
+                    final String word = text.substring(start, index).toUpperCase(Locale.ROOT);
+                    switch (word) {
+                        case "LIMIT", "OFFSET", "FETCH", "DISTINCT" -> {
+                            return word;
+                        }
+                        case "BY" -> {
+                            if ("ORDER".equals(previousWord)) {
+                                return "ORDER BY";
+                            }
+                        }
+                        default -> {
+                        }
+                    }
+                    previousWord = word;
+                }
+            } else {
+                index++;
+            }
+        }
+        return null;
+    }
+
+    private static String seek(final String text, final Keyset keyset) {
+        final String columns = String.join(", ", keyset.getColumns());
+        final String direction = keyset.isDescending() ? " DESC" : "";
+        final var builder = new StringBuilder(text.length() + 96)
+                .append("SELECT * FROM (").append(text).append(") AS keyset");
+        if (!keyset.isFirstPage()) {
+            builder.append(" WHERE (").append(columns).append(keyset.isDescending() ? ") < (" : ") > (");
+            for (int index = 0; index < keyset.getColumns().size(); index++) {
+                builder.append(index > 0 ? ", ?" : "?");
+            }
+            builder.append(')');
+        }
+        builder.append(" ORDER BY ");
+        for (int index = 0; index < keyset.getColumns().size(); index++) {
+            builder.append(index > 0 ? ", " : "").append(keyset.getColumns().get(index)).append(direction);
+        }
+        return builder.append(" LIMIT ?").toString();
+    }
+
+}
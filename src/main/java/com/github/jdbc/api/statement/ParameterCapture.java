@@ -0,0 +1,84 @@
+package com.github.jdbc.api.statement;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+// Records the values a handler binds without a statement, e.g. to key a cached result
+final class ParameterCapture implements PreparedStatement {
+
+    private final List<Object> parameters = new ArrayList<>();
+
+    List<Object> getParameters() {
+        return this.parameters;
+    }
+
+    @Override
+    public void setString(final String value) {
+        this.parameters.add(value);
+    }
+
+    @Override
+    public void setUuid(final UUID uuid) {
+        this.parameters.add(uuid);
+    }
+
+    @Override
+    public void setShort(final short value) {
+        this.parameters.add(value);
+    }
+
+    @Override
+    public void setInt(final int value) {
+        this.parameters.add(value);
+    }
+
+    @Override
+    public void setLong(final long value) {
+        this.parameters.add(value);
+    }
+
+    @Override
+    public void setDouble(final double value) {
+        this.parameters.add(value);
+    }
+
+    @Override
+    public void setBigDecimal(final BigDecimal value) {
+        this.parameters.add(value);
+    }
+
+    @Override
+    public void setBoolean(final boolean value) {
+        this.parameters.add(value);
+    }
+
+    @Override
+    public void setLocalDate(final LocalDate localDate) {
+        this.parameters.add(localDate);
+    }
+
+    @Override
+    public void setLocalDateTime(final LocalDateTime localDateTime) {
+        this.parameters.add(localDateTime);
+    }
+
+    @Override
+    public void setDate(final java.sql.Date date) {
+        this.parameters.add(date);
+    }
+
+    @Override
+    public void setDate(final Date date) {
+        this.parameters.add(new java.sql.Date(date.getTime()));
+    }
+
+    @Override
+    public void set(final Object object) {
+        this.parameters.add(object);
+    }
+}
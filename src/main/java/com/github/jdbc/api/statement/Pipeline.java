@@ -0,0 +1,89 @@
+package com.github.jdbc.api.statement;
+
+import com.github.jdbc.api.mapper.RowMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class Pipeline {
+
+    // On a line of its own, so a step ending in a line comment cannot swallow the separator
+    private static final String STATEMENT_SEPARATOR = "\n;\n";
+
+    private final List<Step<?>> steps = new ArrayList<>();
+
+    public Step<Integer> update(final SQL sql) {
+        return this.add(new Step<>(sql, null));
+    }
+
+    public <T> Step<List<T>> query(final SQL sql, final RowMapper<T> rowMapper) {
+        return this.add(new Step<>(sql, rowMapper));
+    }
+
+    public int size() {
+        return this.steps.size();
+    }
+
+    public Step<?> getStep(final int index) {
+        return this.steps.get(index);
+    }
+
+    // pgjdbc splits the joined text back into statements and sends them in a single round trip,
+    // the parameters keep their order so each handler binds right after the previous one
+    public SQL get() {
+        if (this.steps.isEmpty()) {
+            throw new IllegalStateException("The pipeline has no statements.");
+        }
+        final var text = new StringBuilder();
+        for (final Step<?> step : this.steps) {
+            if (!text.isEmpty()) {
+                text.append(STATEMENT_SEPARATOR);
+            }
+            text.append(step.text);
+        }
+        final List<Step<?>> steps = List.copyOf(this.steps);
+        return new SQL(text.toString(), statement -> {
+            for (final Step<?> step : steps) {
+                step.sql.preparedStatementHandler.prepareStatement(statement);
+                if (step.sql instanceof Query query) {
+                    if (query.getLimit() > 0) {
+                        statement.setInt(query.getLimit());
+                    }
+                    if (query.getOffset() > 0) {
+                        statement.setLong(query.getOffset());
+                    }
+                }
+            }
+        });
+    }
+
+    private <T> Step<T> add(final Step<T> step) {
+        if (step.sql instanceof KeysetQuery) {
+            throw new IllegalArgumentException("A keyset query cannot be pipelined, use Postgres.selectPage.");
+        }
+        this.steps.add(step);
+        return step;
+    }
+
+    public static final class Step<T> {
+
+        private final SQL sql;
+        private final String text;
+        private final RowMapper<?> rowMapper;
+
+        private Step(final SQL sql, final RowMapper<?> rowMapper) {
+            this.sql = sql;
+            final String text = sql.text.strip();
+            this.text = text.endsWith(";") ? text.substring(0, text.length() - 1) : text;
+            this.rowMapper = rowMapper;
+        }
+
+        public boolean isQuery() {
+            return this.rowMapper != null;
+        }
+
+        public RowMapper<?> getRowMapper() {
+            return this.rowMapper;
+        }
+    }
+}
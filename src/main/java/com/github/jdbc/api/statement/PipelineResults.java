@@ -0,0 +1,30 @@
+package com.github.jdbc.api.statement;
+
+public final class PipelineResults {
+
+    private final Pipeline pipeline;
+    private final Object[] results;
+
+    public PipelineResults(final Pipeline pipeline, final Object[] results) {
+        this.pipeline = pipeline;
+        this.results = results;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Pipeline.Step<T> step) {
+        for (int index = 0; index < this.pipeline.size(); index++) {
+            if (this.pipeline.getStep(index) == step) {
+                return (T) this.results[index];
+            }
+        }
+        throw new IllegalArgumentException("The step was not part of this pipeline.");
+    }
+
+    public Object get(final int index) {
+        return this.results[index];
+    }
+
+    public int size() {
+        return this.results.length;
+    }
+}
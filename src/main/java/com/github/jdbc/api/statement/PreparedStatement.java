@@ -7,7 +7,7 @@ import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.UUID;
 
-public sealed interface PreparedStatement permits PreparedStatementWrapper {
+public sealed interface PreparedStatement permits PreparedStatementWrapper, ParameterCapture {
 
     void setString(String value) throws SQLException;
 
@@ -6,12 +6,15 @@ import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 
 public final class PreparedStatementWrapper implements PreparedStatement, AutoCloseable {
 
     private short index = 0;
+    private final StatementCache statementCache;
     private final java.sql.PreparedStatement delegate;
+    private final List<Object> parameters;
 
     public PreparedStatementWrapper(final Connection connection, final SQL sql) throws SQLException {
         this(connection, sql, null);
@@ -19,12 +22,32 @@ public final class PreparedStatementWrapper implements PreparedStatement, AutoCl
 
     public PreparedStatementWrapper(final Connection connection, final SQL sql,
                                     final String[] retrievableKeys) throws SQLException {
-        if (retrievableKeys != null && retrievableKeys.length > 0) {
-            this.delegate = connection.prepareStatement(sql.get(), retrievableKeys);
-        } else {
-            this.delegate = connection.prepareStatement(sql.get());
+        this(StatementCache.disabled(), connection, sql, retrievableKeys);
+    }
+
+    public PreparedStatementWrapper(final StatementCache statementCache, final Connection connection,
+                                    final SQL sql) throws SQLException {
+        this(statementCache, connection, sql, null);
+    }
+
+    public PreparedStatementWrapper(final StatementCache statementCache, final Connection connection,
+                                    final SQL sql, final String[] retrievableKeys) throws SQLException {
+        this(statementCache, connection, sql, retrievableKeys, null);
+    }
+
+    // The bound values are appended to the given list, when there is one, for diagnostics
+    public PreparedStatementWrapper(final StatementCache statementCache, final Connection connection,
+                                    final SQL sql, final String[] retrievableKeys,
+                                    final List<Object> parameters) throws SQLException {
+        this.statementCache = statementCache;
+        this.parameters = parameters;
+        this.delegate = statementCache.prepare(connection, sql.get(), retrievableKeys);
+        try {
+            this.handlePreparedStatement(sql);
+        } catch (SQLException | RuntimeException exception) {
+            this.close();
+            throw exception;
         }
-        this.handlePreparedStatement(sql);
     }
 
     private void handlePreparedStatement(final SQL sql) throws SQLException {
@@ -37,85 +60,158 @@ public final class PreparedStatementWrapper implements PreparedStatement, AutoCl
 
             if (limit > 0) {
                 this.delegate.setInt(++this.index, limit);
+                this.capture(limit);
             }
             if (offset > 0) {
                 this.delegate.setLong(++this.index, offset);
+                this.capture(offset);
             }
+        } else if (sql instanceof KeysetQuery keysetQuery) {
+            final Object[] values = keysetQuery.getKeyset().values();
+            if (values != null) {
+                for (final Object value : values) {
+                    this.delegate.setObject(++this.index, value);
+                    this.capture(value);
+                }
+            }
+            // One more row tells whether a next page exists
+            this.delegate.setInt(++this.index, keysetQuery.getLimit() + 1);
+            this.capture(keysetQuery.getLimit() + 1);
         }
     }
 
+    public void addBatch(final PreparedStatementHandler statementHandler) throws SQLException {
+        this.index = 0;
+        statementHandler.prepareStatement(this);
+        this.delegate.addBatch();
+    }
+
+    public int[] executeBatch() throws SQLException {
+        return this.delegate.executeBatch();
+    }
+
     @Override
     public void close() throws SQLException {
-        this.delegate.close();
+        this.statementCache.release(this.delegate);
     }
 
     @Override
     public void setString(final String value) throws SQLException {
         this.delegate.setString(++this.index, value);
+        this.capture(value);
     }
 
     @Override
     public void setUuid(final UUID uuid) throws SQLException {
         this.delegate.setObject(++this.index, uuid);
+        this.capture(uuid);
     }
 
     @Override
     public void setShort(final short value) throws SQLException {
         this.delegate.setShort(++this.index, value);
+        this.capture(value);
     }
 
     @Override
     public void setInt(final int value) throws SQLException {
         this.delegate.setInt(++this.index, value);
+        this.capture(value);
     }
 
     @Override
     public void setLong(final long value) throws SQLException {
         this.delegate.setLong(++this.index, value);
+        this.capture(value);
     }
 
     @Override
     public void setDouble(final double value) throws SQLException {
         this.delegate.setDouble(++this.index, value);
+        this.capture(value);
     }
 
     @Override
     public void setBigDecimal(final BigDecimal value) throws SQLException {
         this.delegate.setBigDecimal(++this.index, value);
+        this.capture(value);
     }
 
     @Override
     public void setBoolean(final boolean value) throws SQLException {
         this.delegate.setBoolean(++this.index, value);
+        this.capture(value);
     }
 
     @Override
     public void setLocalDate(final LocalDate localDate) throws SQLException {
         this.delegate.setObject(++this.index, localDate);
+        this.capture(localDate);
     }
 
     @Override
     public void setLocalDateTime(final LocalDateTime localDateTime) throws SQLException {
         this.delegate.setObject(++this.index, localDateTime);
+        this.capture(localDateTime);
     }
 
     @Override
     public void setDate(final java.sql.Date date) throws SQLException {
         this.delegate.setDate(++this.index, date);
+        this.capture(date);
     }
 
     @Override
     public void setDate(final Date date) throws SQLException {
         this.delegate.setDate(++this.index, new java.sql.Date(date.getTime()));
+        this.capture(date);
     }
 
     @Override
     public void set(final Object object) throws SQLException {
         this.delegate.setObject(++this.index, object);
+        this.capture(object);
     }
 
     public java.sql.PreparedStatement getDelegate() {
         return this.delegate;
     }
 
+    // Primitive overloads box only once a value is really captured
+    private void capture(final Object value) {
+        if (this.parameters != null) {
+            this.parameters.add(value);
+        }
+    }
+
+    private void capture(final short value) {
+        if (this.parameters != null) {
+            this.parameters.add(value);
+        }
+    }
+
+    private void capture(final int value) {
+        if (this.parameters != null) {
+            this.parameters.add(value);
+        }
+    }
+
+    private void capture(final long value) {
+        if (this.parameters != null) {
+            this.parameters.add(value);
+        }
+    }
+
+    private void capture(final double value) {
+        if (this.parameters != null) {
+            this.parameters.add(value);
+        }
+    }
+
+    private void capture(final boolean value) {
+        if (this.parameters != null) {
+            this.parameters.add(value);
+        }
+    }
+
 }
@@ -2,24 +2,20 @@ package com.github.jdbc.api.statement;
 
 public final class Query extends SQL {
 
-    private static final String LIMIT_CLAUSE = " LIMIT ? ";
-    private static final String OFFSET_CLAUSE = " OFFSET ? ";
-
     private final int limit;
     private final long offset;
 
     public Query(final SQL sql, final int limit, final long offset) {
-        super(sql.builder, sql.preparedStatementHandler);
-        if (limit > 0) {
-            this.builder.append(LIMIT_CLAUSE);
-        }
-        if (offset > 0) {
-            this.builder.append(OFFSET_CLAUSE);
-        }
+        super(sql.paginated(limit > 0, offset > 0), sql.preparedStatementHandler, sql);
         this.limit = limit;
         this.offset = offset;
     }
 
+    @Override
+    public Query named(final String name) {
+        return new Query(this.origin().named(name), this.limit, this.offset);
+    }
+
     public int getLimit() {
         return this.limit;
     }
@@ -2,57 +2,203 @@ package com.github.jdbc.api.statement;
 
 import org.jboss.logging.Logger;
 
+import java.sql.SQLException;
+import java.util.List;
 import java.util.UUID;
 
 public class SQL {
 
     private static final Logger LOG = Logger.getLogger(SQL.class);
 
-    protected final StringBuilder builder;
+    private static final String LIMIT_CLAUSE = " LIMIT ?";
+    private static final String OFFSET_CLAUSE = " OFFSET ?";
+
+    protected final String text;
     protected final PreparedStatementHandler preparedStatementHandler;
+    private final String name;
+    private final SQL origin;
+
+    // Derived lazily and cached, racing threads compute the same immutable strings
+    private String normalizedText;
+    private String logText;
+    private String[] paginatedTexts;
+    private String fingerprint;
 
     public SQL(final String sql) {
-        this(new StringBuilder(sql));
+        this(sql, statement -> {});
     }
 
     public SQL(final StringBuilder sqlBuilder) {
-        this(sqlBuilder, statement -> {});
-    }
-
-    public SQL(final String sql, final PreparedStatementHandler statementHandler) {
-        this(new StringBuilder(sql), statementHandler);
+        this(sqlBuilder.toString());
     }
 
     public SQL(final String sql, final UUID uuid) {
-        this(new StringBuilder(sql), statement -> statement.setUuid(uuid));
+        this(sql, statement -> statement.setUuid(uuid));
     }
 
     public SQL(final String sql, final String first) {
-        this(new StringBuilder(sql), statement -> statement.setString(first));
+        this(sql, statement -> statement.setString(first));
     }
 
     public SQL(final StringBuilder sqlBuilder,
                final PreparedStatementHandler statementHandler) {
-        this.builder = sqlBuilder;
+        this(sqlBuilder.toString(), statementHandler);
+    }
+
+    public SQL(final String sql, final PreparedStatementHandler statementHandler) {
+        this(sql, statementHandler, null, null);
+    }
+
+    // Derived statements such as a paginated query keep the identity of the SQL they came from
+    protected SQL(final String sql, final PreparedStatementHandler statementHandler, final SQL origin) {
+        this(sql, statementHandler, null, origin);
+    }
+
+    private SQL(final String sql, final PreparedStatementHandler statementHandler,
+                final String name, final SQL origin) {
+        this.text = sql.trim();
         this.preparedStatementHandler = statementHandler;
+        this.name = name;
+        this.origin = origin;
+    }
+
+    // Derived statements override this to name their origin, so their extra bound values are kept
+    public SQL named(final String name) {
+        return new SQL(this.text, this.preparedStatementHandler, name, null);
+    }
+
+    public final String getName() {
+        if (this.origin != null) {
+            return this.origin.getName();
+        }
+        if (this.name != null) {
+            return this.name;
+        }
+        String fingerprint = this.fingerprint;
+        if (fingerprint == null) {
+            fingerprint = fingerprint(this.toString());
+            this.fingerprint = fingerprint;
+        }
+        return fingerprint;
+    }
+
+    public final List<Object> getParameters() throws SQLException {
+        final var capture = new ParameterCapture();
+        this.preparedStatementHandler.prepareStatement(capture);
+        return capture.getParameters();
     }
 
     public final String get() {
         if (LOG.isEnabled(Logger.Level.DEBUG)) {
             LOG.debug(this.format());
         }
-        return this.builder.toString().trim();
+        return this.text;
+    }
+
+    final SQL origin() {
+        return this.origin != null ? this.origin : this;
+    }
+
+    final String paginated(final boolean limit, final boolean offset) {
+        if (!limit && !offset) {
+            return this.text;
+        }
+        String[] paginatedTexts = this.paginatedTexts;
+        if (paginatedTexts == null) {
+            paginatedTexts = new String[3];
+            this.paginatedTexts = paginatedTexts;
+        }
+        final int slot = (limit ? 1 : 0) + (offset ? 2 : 0) - 1;
+        String paginatedText = paginatedTexts[slot];
+        if (paginatedText == null) {
+            paginatedText = this.text + (limit ? LIMIT_CLAUSE : "") + (offset ? OFFSET_CLAUSE : "");
+            paginatedTexts[slot] = paginatedText;
+        }
+        return paginatedText;
     }
 
     private String format() {
-        return String.format("%n %2s %s %n", " ", this);
+        String logText = this.logText;
+        if (logText == null) {
+            logText = String.format("%n %2s %s %n", " ", this);
+            this.logText = logText;
+        }
+        return logText;
     }
 
     @Override
     public String toString() {
-        return this.builder.toString().trim()
-                .replace("\n", " ")
-                .replaceAll("\\s{2,}", " ");
+        String normalizedText = this.normalizedText;
+        if (normalizedText == null) {
+            normalizedText = normalize(this.text);
+            this.normalizedText = normalizedText;
+        }
+        return normalizedText;
+    }
+
+    // Literals are replaced before hashing, so statements differing only in inlined values share an identity
+    private static String fingerprint(final String normalizedText) {
+        final int length = normalizedText.length();
+        int hash = 0;
+        int index = 0;
+        while (index < length) {
+            final char c = normalizedText.charAt(index);
+            if (c == '\'') {
+                index++;
+                while (index < length) {
+                    if (normalizedText.charAt(index++) == '\'') {
+                        if (index < length && normalizedText.charAt(index) == '\'') {
+                            index++;
+                            continue;
+                        }
+                        break;
+                    }
+                }
+                hash = 31 * hash + '?';
+            } else if (Character.isDigit(c) && (index == 0 || !isIdentifierPart(normalizedText.charAt(index - 1)))) {
+                while (index < length && (Character.isDigit(normalizedText.charAt(index))
+                        || normalizedText.charAt(index) == '.')) {
+                    index++;
+                }
+                hash = 31 * hash + '?';
+            } else {
+                hash = 31 * hash + c;
+                index++;
+            }
+        }
+        return "sql-%08x".formatted(hash);
+    }
+
+    private static boolean isIdentifierPart(final char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+    // Collapses line breaks and runs of whitespace into a single space
+    private static String normalize(final String text) {
+        final int length = text.length();
+        final var builder = new StringBuilder(length);
+        boolean changed = false;
+        int index = 0;
+        while (index < length) {
+            final char c = text.charAt(index);
+            if (!Character.isWhitespace(c)) {
+                builder.append(c);
+                index++;
+                continue;
+            }
+            int end = index + 1;
+            while (end < length && Character.isWhitespace(text.charAt(end))) {
+                end++;
+            }
+            if (end - index > 1 || c == '\n') {
+                builder.append(' ');
+                changed = true;
+            } else {
+                builder.append(c);
+            }
+            index = end;
+        }
+        return changed ? builder.toString() : text;
     }
 
 }
@@ -0,0 +1,121 @@
+package com.github.jdbc.api.statement;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// pgjdbc keeps the parsed query and its server-side statement per physical connection, in an LRU sized by
+// preparedStatementCacheQueries; this bean mirrors that LRU per connection to count hits, misses and evictions
+@ApplicationScoped
+public class StatementCache {
+
+    private static final String NO_KEYS = "";
+    private static final StatementCache DISABLED = new StatementCache(0);
+
+    private final int size;
+    // Weak keys, a physical connection destroyed by the pool drops its entries with it
+    private final Map<Connection, ConnectionStatements> connections = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Inject
+    public StatementCache(@ConfigProperty(name = "postgres.statement-cache.size", defaultValue = "64")
+                          final int size) {
+        this.size = Math.max(0, size);
+    }
+
+    public static StatementCache disabled() {
+        return DISABLED;
+    }
+
+    // Prepared through the pooled handle, so the pool still tracks, closes and reports leaked statements
+    PreparedStatement prepare(final Connection connection, final String sql,
+                              final String[] retrievableKeys) throws SQLException {
+        final boolean retrieveKeys = retrievableKeys != null && retrievableKeys.length > 0;
+        final PreparedStatement statement = retrieveKeys
+                ? connection.prepareStatement(sql, retrievableKeys)
+                : connection.prepareStatement(sql);
+        if (this.size > 0) {
+            this.record(connection, new StatementKey(sql, !retrieveKeys ? NO_KEYS
+                    : retrievableKeys.length == 1 ? retrievableKeys[0] : String.join(",", retrievableKeys)));
+        }
+        return statement;
+    }
+
+    void release(final PreparedStatement statement) throws SQLException {
+        statement.close();
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    public long getEvictions() {
+        return this.evictions.sum();
+    }
+
+    public int getSize() {
+        return this.size;
+    }
+
+    private void record(final Connection connection, final StatementKey key) throws SQLException {
+        final Connection physicalConnection = connection.unwrap(Connection.class);
+        final ConnectionStatements statements = this.connections.computeIfAbsent(physicalConnection,
+                ignored -> new ConnectionStatements(this.size));
+        switch (statements.touch(key)) {
+            case HIT -> this.hits.increment();
+            case MISS -> this.misses.increment();
+            case EVICTION -> {
+                this.misses.increment();
+                this.evictions.increment();
+            }
+        }
+    }
+
+    record StatementKey(String sql, String retrievableKeys) {
+    }
+
+    private enum Lookup {
+        HIT, MISS, EVICTION
+    }
+
+    private static final class ConnectionStatements {
+
+        private final int size;
+        private final LinkedHashMap<StatementKey, Boolean> statements;
+
+        private ConnectionStatements(final int size) {
+            this.size = size;
+            this.statements = new LinkedHashMap<>(16, 0.75f, true);
+        }
+
+        private synchronized Lookup touch(final StatementKey key) {
+            if (this.statements.put(key, Boolean.TRUE) != null) {
+                return Lookup.HIT;
+            }
+            if (this.statements.size() > this.size) {
+                final Iterator<StatementKey> eldest = this.statements.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+                return Lookup.EVICTION;
+            }
+            return Lookup.MISS;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.github.jdbc.api.transaction;
+
+public final class RetryPolicy {
+
+    private static final int CONFIGURED_ATTEMPTS = 0;
+    private static final RetryPolicy NONE = new RetryPolicy(1);
+    private static final RetryPolicy IDEMPOTENT = new RetryPolicy(CONFIGURED_ATTEMPTS);
+
+    private final int maxAttempts;
+
+    private RetryPolicy(final int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    // The caller states the unit of work has no effect outside the transaction, so re-running it is safe
+    public static RetryPolicy idempotent() {
+        return IDEMPOTENT;
+    }
+
+    public static RetryPolicy idempotent(final int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("The retry policy needs at least one attempt.");
+        }
+        return new RetryPolicy(maxAttempts);
+    }
+
+    public static RetryPolicy none() {
+        return NONE;
+    }
+
+    public boolean isRetrying() {
+        return this.maxAttempts != 1;
+    }
+
+    int maxAttempts(final int configuredAttempts) {
+        return this.maxAttempts == CONFIGURED_ATTEMPTS ? configuredAttempts : this.maxAttempts;
+    }
+}
@@ -0,0 +1,121 @@
+package com.github.jdbc.api.transaction;
+
+import com.github.jdbc.api.exception.SerializationFailureException;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.RollbackException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.postgresql.util.PSQLState;
+
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@ApplicationScoped
+public class TransactionRetry {
+
+    private static final int MAX_CAUSE_DEPTH = 16;
+
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder giveUps = new LongAdder();
+
+    @Inject
+    public TransactionRetry(@ConfigProperty(name = "postgres.retry.max-attempts", defaultValue = "3")
+                            final int maxAttempts,
+                            @ConfigProperty(name = "postgres.retry.initial-backoff-ms", defaultValue = "10")
+                            final long initialBackoffMillis,
+                            @ConfigProperty(name = "postgres.retry.max-backoff-ms", defaultValue = "1000")
+                            final long maxBackoffMillis) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMillis = Math.max(0, initialBackoffMillis);
+        this.maxBackoffMillis = Math.max(this.initialBackoffMillis, maxBackoffMillis);
+    }
+
+    public void attempt() {
+        this.attempts.increment();
+    }
+
+    // Only a failure the server reported as rolled back is retried, an unknown commit outcome never is
+    public boolean shouldRetry(final Exception exception, final int attempt, final RetryPolicy retryPolicy) {
+        if (!retryPolicy.isRetrying() || !isTransactionRollback(exception)) {
+            return false;
+        }
+        if (attempt >= retryPolicy.maxAttempts(this.maxAttempts)) {
+            this.giveUps.increment();
+            return false;
+        }
+        this.retries.increment();
+        return true;
+    }
+
+    // Full jitter keeps contending transactions from retrying in lockstep
+    public void backoff(final int attempt) throws InterruptedException {
+        final long ceiling = Math.min(this.maxBackoffMillis,
+                this.initialBackoffMillis << Math.min(attempt - 1, 30));
+        if (ceiling > 0) {
+            TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        }
+    }
+
+    public int getMaxAttempts() {
+        return this.maxAttempts;
+    }
+
+    public long getAttempts() {
+        return this.attempts.sum();
+    }
+
+    public long getRetries() {
+        return this.retries.sum();
+    }
+
+    public long getGiveUps() {
+        return this.giveUps.sum();
+    }
+
+    // A failure at commit comes back from the transaction manager as a RollbackException, with the driver error
+    // as its cause or a suppressed exception; a bare one is a timeout or setRollbackOnly, re-running it won't help
+    static boolean isTransactionRollback(final Throwable exception) {
+        return outcome(exception, 0) == Outcome.RETRYABLE;
+    }
+
+    private static Outcome outcome(final Throwable exception, final int depth) {
+        if (exception == null || depth >= MAX_CAUSE_DEPTH) {
+            return Outcome.UNKNOWN;
+        }
+        if (exception instanceof SerializationFailureException) {
+            return Outcome.RETRYABLE;
+        }
+        if (exception instanceof SQLException sqlException) {
+            final String sqlState = sqlException.getSQLState();
+            if (PSQLState.SERIALIZATION_FAILURE.getState().equals(sqlState)
+                    || PSQLState.DEADLOCK_DETECTED.getState().equals(sqlState)) {
+                return Outcome.RETRYABLE;
+            }
+            if (sqlState != null) {
+                return Outcome.FAILED;
+            }
+        }
+        Outcome outcome = outcome(exception.getCause(), depth + 1);
+        for (final Throwable suppressed : exception.getSuppressed()) {
+            if (outcome == Outcome.RETRYABLE || outcome == Outcome.FAILED) {
+                break;
+            }
+            outcome = outcome(suppressed, depth + 1);
+        }
+        if (outcome == Outcome.UNKNOWN && exception instanceof RollbackException) {
+            return Outcome.FAILED;
+        }
+        return outcome;
+    }
+
+    private enum Outcome {
+        RETRYABLE, FAILED, UNKNOWN
+    }
+}
@@ -1,25 +1,92 @@
 package com.github.jdbc.api;
 
 import com.github.jdbc.api.book.Book;
+import com.github.jdbc.api.book.BookRecord;
+import com.github.jdbc.api.book.BookRecordRowMapper;
+import com.github.jdbc.api.book.BookRecordStatement;
 import com.github.jdbc.api.book.BookSample;
 import com.github.jdbc.api.book.consumer.BookRowMapper;
 import com.github.jdbc.api.book.consumer.BookStatement;
+import com.github.jdbc.api.cache.CachePolicy;
+import com.github.jdbc.api.cache.InvalidationBus;
+import com.github.jdbc.api.cache.InvalidationEvent;
+import com.github.jdbc.api.cache.ResultCache;
+import com.github.jdbc.api.columnar.ColumnarFrame;
+import com.github.jdbc.api.columnar.TextVector;
+import com.github.jdbc.api.copy.CopyFormat;
+import com.github.jdbc.api.copy.CopyRecordHandler;
+import com.github.jdbc.api.copy.CopyTable;
 import com.github.jdbc.api.exception.AlreadyExistsException;
+import com.github.jdbc.api.exception.CheckViolationException;
+import com.github.jdbc.api.exception.DatabaseUnavailableException;
 import com.github.jdbc.api.fallback.UniqueViolationQuery;
+import com.github.jdbc.api.observation.Execution;
+import com.github.jdbc.api.observation.ExecutionListener;
+import com.github.jdbc.api.observation.ExecutionObserver;
+import com.github.jdbc.api.observation.MicrometerExecutionListener;
+import com.github.jdbc.api.observation.Operation;
+import com.github.jdbc.api.observation.SlowQueryLogListener;
+import com.github.jdbc.api.observation.TracingExecutionListener;
+import com.github.jdbc.api.parallel.ParallelQuery;
+import com.github.jdbc.api.parallel.ParallelResults;
+import com.github.jdbc.api.reactive.ReactivePostgres;
+import com.github.jdbc.api.resilience.Bulkhead;
+import com.github.jdbc.api.resilience.CircuitBreaker;
+import com.github.jdbc.api.routing.ReadReplicas;
+import com.github.jdbc.api.row.ColumnIndex;
+import com.github.jdbc.api.row.OffHeapRowSet;
+import com.github.jdbc.api.row.Page;
 import com.github.jdbc.api.row.Row;
+import com.github.jdbc.api.statement.Keyset;
+import com.github.jdbc.api.statement.KeysetQuery;
+import com.github.jdbc.api.statement.Pipeline;
+import com.github.jdbc.api.statement.PipelineResults;
+import com.github.jdbc.api.statement.Query;
 import com.github.jdbc.api.statement.SQL;
+import com.github.jdbc.api.statement.StatementCache;
+import com.github.jdbc.api.transaction.RetryPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
 import io.quarkus.test.TestTransaction;
 import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
 import jakarta.inject.Inject;
+import jakarta.transaction.TransactionManager;
+import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -37,6 +104,27 @@ final class PostgresJdbcTest {
     @Inject
     BookSample bookSample;
 
+    @Inject
+    ReactivePostgres reactivePostgres;
+
+    @Inject
+    StatementCache statementCache;
+
+    @Inject
+    ResultCache resultCache;
+
+    @Inject
+    InvalidationBus invalidationBus;
+
+    @Inject
+    DataSource dataSource;
+
+    @Inject
+    Bulkhead bulkhead;
+
+    @Inject
+    TransactionManager transactionManager;
+
     @BeforeEach
     void beforeEach() {
         this.postgres.execute(new SQL("""
@@ -115,6 +203,207 @@ final class PostgresJdbcTest {
         });
     }
 
+    @Test
+    @TestTransaction
+    @DisplayName("Should paginate without changing the caller's SQL and keep the bounds when named")
+    public void testPaginatedSql() {
+        assertTrue(insertBooks(3));
+
+        final var sql = new SQL("SELECT * FROM book ORDER BY title");
+        final String text = sql.get();
+        assertTrue(this.postgres.selectFirst(sql, new BookRowMapper()).isPresent());
+        assertEquals(2, this.postgres.select(sql, new BookRowMapper(), 2, 1).size());
+        assertEquals(text, sql.get());
+        assertEquals(3, this.postgres.select(sql, new BookRowMapper()).size());
+
+        final SQL named = new Query(sql, 1, 1).named("second-book");
+        assertInstanceOf(Query.class, named);
+        assertEquals("second-book", named.getName());
+        this.postgres.execute(named);
+
+        final SQL namedPage = new KeysetQuery(new SQL("SELECT * FROM book"), Keyset.ascending("title").after("title"), 2).named("next-page");
+        assertInstanceOf(KeysetQuery.class, namedPage);
+        assertEquals("next-page", namedPage.getName());
+        this.postgres.execute(namedPage);
+    }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should select pages of rows seeking past the last key")
+    public void testSelectPage() {
+        final int rows = 5;
+        assertTrue(insertBooks(rows));
+
+        final var sql = new SQL("SELECT * FROM book WHERE in_stock = ?", statement -> statement.setBoolean(true));
+        final List<Book> books = new ArrayList<>();
+        Keyset keyset = Keyset.ascending("title", "id");
+        int pages = 0;
+        Page<Book> page;
+        do {
+            page = this.postgres.selectPage(sql, new BookRowMapper(), keyset, 2);
+            books.addAll(page.items());
+            keyset = page.next();
+            pages++;
+        } while (page.hasNext());
+
+        assertEquals(3, pages);
+        assertEquals(this.postgres.select(new SQL("SELECT * FROM book ORDER BY title"), new BookRowMapper()), books);
+
+        assertThrows(IllegalArgumentException.class, () -> this.postgres.selectPage(
+                new SQL("SELECT * FROM book ORDER BY author"), new BookRowMapper(), Keyset.ascending("title"), 2));
+    }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should stream a collection of rows through a server-side cursor")
+    public void testStream() {
+        final int rows = 5;
+        assertTrue(insertBooks(rows));
+
+        final List<Book> books;
+        try (Stream<Book> stream = this.postgres.stream(
+                new SQL("SELECT * FROM book ORDER BY title"), new BookRowMapper(), 2)) {
+            books = stream.toList();
+        }
+
+        assertEquals(rows, books.size());
+        books.forEach(book -> assertNotNull(book.uuid()));
+    }
+
+    @Test
+    @DisplayName("Should resolve an exact column label before a case-insensitive match")
+    void testFindColumn() {
+        final var columnIndex = new ColumnIndex(List.of("Foo", "foo", "Bar"));
+        assertEquals(1, columnIndex.indexOf("Foo"));
+        assertEquals(2, columnIndex.indexOf("foo"));
+        assertEquals(1, columnIndex.indexOf("FOO"));
+        assertEquals(3, columnIndex.indexOf("bar"));
+        assertFalse(columnIndex.contains("baz"));
+
+        final Optional<List<Integer>> columns = this.postgres.selectFirst(new SQL("SELECT 1 AS \"Foo\", 2 AS foo, 3 AS bar"),
+                row -> List.of(row.findColumn("Foo"), row.findColumn("foo"), row.findColumn("BAR"), row.getInt("foo")));
+        assertEquals(List.of(1, 2, 3, 2), columns.orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should release the cursor connection when the row mapper fails")
+    void testStreamMapperFailure() {
+        this.postgres.withTransaction(() -> insertBooks(2));
+
+        // More attempts than pooled connections, a leaked connection would exhaust the pool
+        for (int attempt = 0; attempt < 25; attempt++) {
+            final Stream<Book> stream = this.postgres.stream(new SQL("SELECT * FROM book"), row -> {
+                throw new IllegalStateException("Cannot map the row.");
+            }, 1);
+            assertThrows(IllegalStateException.class, stream::toList);
+        }
+
+        assertEquals(2, this.postgres.select(new SQL("SELECT * FROM book"), new BookRowMapper()).size());
+    }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should bind and map rows through the generated record mapper")
+    public void testRecordMapper() {
+        final Book mangaBook = this.bookSample.mangaBook();
+        final var bookRecord = new BookRecord(null, mangaBook.title(), mangaBook.author(), mangaBook.genre(),
+                mangaBook.publisher(), mangaBook.publishYear(), mangaBook.inStock(), mangaBook.createdAt());
+
+        final UUID uuid = this.postgres.insertReturningUuid(
+                new SQL(INSERT_BOOK_SQL, new BookRecordStatement(bookRecord)));
+
+        final Optional<BookRecord> result = this.postgres.selectFirst(
+                new SQL("SELECT * FROM book WHERE uuid = ?", uuid), new BookRecordRowMapper());
+
+        assertTrue(result.isPresent());
+        assertEquals(uuid, result.get().uuid());
+        assertEquals(bookRecord.title(), result.get().title());
+        assertEquals(bookRecord.publishYear(), result.get().publishYear());
+    }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should reuse the prepared statement of a repeated query")
+    public void testStatementCache() {
+        assertTrue(insertBooks(2));
+
+        final var sql = new SQL("SELECT COUNT(*) FROM book");
+        final long hits = this.statementCache.getHits();
+        for (int i = 0; i < 3; i++) {
+            assertEquals(2, this.postgres.selectFirst(sql, Row::getFirstInt).orElse(0));
+        }
+
+        assertTrue(this.statementCache.getHits() - hits >= 2);
+    }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should decode a select into column vectors")
+    public void testSelectColumnar() {
+        assertTrue(insertBooks(3));
+        this.postgres.update(new SQL("UPDATE book SET genre = 'Seinen', in_stock = false WHERE title LIKE '%3'"));
+
+        final ColumnarFrame frame = this.postgres.selectColumnar(new SQL("""
+                SELECT genre, publish_year, in_stock, NULL::BIGINT AS copies, created_at,
+                       12345678901234567.89::NUMERIC AS price, NULLIF(genre, 'Seinen') AS series
+                  FROM book ORDER BY id"""));
+
+        assertEquals(3, frame.getRowCount());
+        assertEquals(Map.of("Shonen", 2L, "Seinen", 1L), frame.texts("genre").countByValue());
+        assertEquals(2003 * 3, frame.ints("publish_year").sumAsLong());
+        assertEquals(Map.of("Shonen", 4006.0, "Seinen", 2003.0),
+                frame.texts("genre").sumByValue(frame.numbers("publish_year")));
+        assertEquals(2, frame.booleans("in_stock").countTrue());
+        assertEquals(3, frame.longs("copies").nullCount());
+        assertTrue(frame.longs("copies").max().isEmpty());
+        assertNotNull(frame.objects("created_at").getObject(0));
+        assertEquals(new BigDecimal("12345678901234567.89"), frame.decimals("price").get(0));
+        assertEquals(new BigDecimal("37037036703703703.67"), frame.decimals("price").sumExact());
+        assertEquals(0, frame.texts("series").getCode(0));
+        assertEquals(TextVector.NULL_CODE, frame.texts("series").getCode(2));
+    }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should keep a large select off the heap and seek within it")
+    public void testSelectOffHeap() throws SQLException {
+        assertTrue(insertBooks(50));
+
+        try (OffHeapRowSet rows = this.postgres.selectOffHeap(new SQL("SELECT * FROM book ORDER BY id"))) {
+            assertEquals(50, rows.size());
+            assertTrue(rows.isSpilled());
+            assertTrue(rows.getDirectBytes() <= 4096);
+
+            int count = 0;
+            while (rows.next()) {
+                assertEquals(2003, rows.getShort("publish_year"));
+                count++;
+            }
+            assertEquals(50, count);
+
+            rows.seek(9);
+            assertTrue(rows.getString("title").endsWith(" 10"));
+            assertTrue(rows.getBoolean("in_stock"));
+            assertNotNull(rows.getUuid("uuid"));
+            assertNotNull(rows.getLocalDateTime("created_at"));
+
+            rows.rewind();
+            assertTrue(rows.next());
+            assertEquals(new BookRowMapper().mapRow(rows).title(), rows.getString("title"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject an off-heap integer beyond the long range")
+    public void testSelectOffHeapOverflow() throws SQLException {
+        try (OffHeapRowSet rows = this.postgres.selectOffHeap(
+                new SQL("SELECT 99999999999999999999::numeric AS big, -32768 AS small"))) {
+            assertTrue(rows.next());
+            assertThrows(SQLException.class, () -> rows.getInt("big"));
+            assertEquals(Short.MIN_VALUE, rows.getShort("small"));
+        }
+    }
+
     @Test
     @TestTransaction
     @DisplayName("Should update multiple rows")
@@ -148,6 +437,121 @@ final class PostgresJdbcTest {
         assertEquals(0, rowCount);
     }
 
+    @Test
+    @TestTransaction
+    @DisplayName("Should insert rows in batches returning the generated keys")
+    public void testBatchInsertReturningKeys() {
+        final Book mangaBook = this.bookSample.mangaBook();
+        final List<BookStatement> statements = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            statements.add(new BookStatement(new Book("%s %d".formatted(mangaBook.title(), i),
+                    mangaBook.author(), mangaBook.genre(), mangaBook.publisher(),
+                    mangaBook.publishYear(), mangaBook.inStock(), mangaBook.createdAt())));
+        }
+
+        final List<UUID> uuids = this.postgres.batchReturningUuid(new SQL(INSERT_BOOK_SQL), statements, 2);
+        assertEquals(statements.size(), uuids.size());
+        uuids.forEach(Assertions::assertNotNull);
+
+        final List<BookStatement> reprints = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            reprints.add(new BookStatement(new Book("%s reprint %d".formatted(mangaBook.title(), i),
+                    mangaBook.author(), mangaBook.genre(), mangaBook.publisher(),
+                    mangaBook.publishYear(), mangaBook.inStock(), mangaBook.createdAt())));
+        }
+        final Iterable<BookStatement> iterable = reprints::iterator;
+        final int[] updateCounts = this.postgres.batch(new SQL(INSERT_BOOK_SQL), iterable, 1000);
+        assertEquals(reprints.size(), updateCounts.length);
+
+        final int rowCount = this.postgres.selectFirst(new SQL(
+                "SELECT COUNT(*) FROM book"), Row::getFirstInt).orElse(0);
+
+        assertEquals(statements.size() + reprints.size(), rowCount);
+    }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should bulk load rows through COPY FROM STDIN")
+    public void testCopyIn() {
+        final Book mangaBook = this.bookSample.mangaBook();
+        final List<Book> books = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            books.add(new Book("%s %d".formatted(mangaBook.title(), i),
+                    mangaBook.author(), mangaBook.genre(), mangaBook.publisher(),
+                    mangaBook.publishYear(), mangaBook.inStock(), mangaBook.createdAt()));
+        }
+        final var table = new CopyTable("book", "title", "author", "genre",
+                "publisher", "publish_year", "in_stock", "created_at");
+        final CopyRecordHandler<Book> recordHandler = (book, record) -> {
+            record.setString(book.title());
+            record.setString(book.author());
+            record.setString(book.genre());
+            record.setString(book.publisher());
+            record.setShort(book.publishYear());
+            record.setBoolean(book.inStock());
+            record.setLocalDateTime(book.createdAt());
+        };
+
+        assertEquals(3, this.postgres.copyIn(table, books.subList(0, 3).iterator(), recordHandler));
+        assertEquals(2, this.postgres.copyIn(table, books.subList(3, 5).iterator(),
+                recordHandler, CopyFormat.BINARY));
+
+        final List<Book> copiedBooks = this.postgres.select(
+                new SQL("SELECT * FROM book ORDER BY title"), new BookRowMapper());
+
+        assertEquals(books.size(), copiedBooks.size());
+        assertEquals(books.get(4).title(), copiedBooks.get(4).title());
+        assertEquals(books.get(4).publishYear(), copiedBooks.get(4).publishYear());
+    }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should export rows through COPY TO STDOUT")
+    public void testCopyOut() {
+        final int rows = 5;
+        assertTrue(insertBooks(rows));
+
+        final var sql = new SQL("SELECT * FROM book ORDER BY title");
+        final List<Book> books = this.postgres.copyOut(sql, new BookRowMapper());
+
+        assertEquals(rows, books.size());
+        assertEquals(this.postgres.select(sql, new BookRowMapper()), books);
+
+        final var outputStream = new ByteArrayOutputStream();
+        assertEquals(rows, this.postgres.copyOut(sql, CopyFormat.CSV, outputStream));
+        assertEquals(rows, outputStream.toString(StandardCharsets.UTF_8).lines().count());
+
+        assertEquals(List.of("a  b"), this.postgres.copyOut(new SQL("SELECT 'a  b'"), Row::getFirstString));
+        assertEquals(List.of(LocalDateTime.ofInstant(Instant.parse("2024-01-31T12:00:00Z"), ZoneId.systemDefault())),
+                this.postgres.copyOut(new SQL("SELECT TIMESTAMPTZ '2024-01-31 12:00:00+00'"), Row::getFirstLocalDateTime));
+        assertThrows(IllegalArgumentException.class, () -> this.postgres.copyOut(
+                new SQL("SELECT * FROM book WHERE title = ?", "title"), new BookRowMapper()));
+    }
+
+    @Test
+    @TestTransaction
+    @DisplayName("Should send several statements in one round trip and decode each result")
+    public void testPipeline() {
+        final Book mangaBook = this.bookSample.mangaBook();
+        final var pipeline = new Pipeline();
+        final Pipeline.Step<Integer> inserted = pipeline.update(new SQL(INSERT_BOOK_SQL, new BookStatement(mangaBook)));
+        final Pipeline.Step<Integer> updated = pipeline.update(new SQL(
+                "UPDATE book SET in_stock = ? WHERE title = ? -- only the inserted book", statement -> {
+                    statement.setBoolean(false);
+                    statement.setString(mangaBook.title());
+                }));
+        final Pipeline.Step<List<Book>> books = pipeline.query(
+                new SQL("SELECT * FROM book WHERE in_stock = ?; ", statement -> statement.setBoolean(false)),
+                new BookRowMapper());
+
+        final PipelineResults results = this.postgres.pipeline(pipeline);
+
+        assertEquals(1, results.get(inserted));
+        assertEquals(1, results.get(updated));
+        assertEquals(1, results.get(books).size());
+        assertEquals(mangaBook.title(), results.get(books).get(0).title());
+    }
+
     @Test
     @TestTransaction
     @DisplayName("Should update one row returning the changed data")
@@ -195,6 +599,417 @@ final class PostgresJdbcTest {
         assertEquals(bookTitle.get(), exception.getViolations().get("title"));
     }
 
+    @Test
+    @DisplayName("Should retry the unit of work after a serialization failure")
+    void testRetryingTransaction() {
+        final Book mangaBook = this.bookSample.mangaBook();
+        final var attempts = new AtomicInteger();
+
+        final UUID uuid = this.postgres.withRetryingTransaction(RetryPolicy.idempotent(), () -> {
+            final UUID insertedUuid = this.insertBookReturningKey(mangaBook);
+            if (attempts.incrementAndGet() == 1) {
+                this.postgres.execute(new SQL("DO $$ BEGIN RAISE EXCEPTION SQLSTATE '40001'; END $$"));
+            }
+            return insertedUuid;
+        });
+
+        assertEquals(2, attempts.get());
+        final int rowCount = this.postgres.selectFirst(new SQL(
+                "SELECT COUNT(*) FROM book"), Row::getFirstInt).orElse(0);
+        assertEquals(1, rowCount);
+        assertTrue(this.postgres.selectFirst(new SQL(
+                "SELECT uuid FROM book WHERE uuid = ?", uuid), Row::getFirstUuid).isPresent());
+
+        final var unretried = new AtomicInteger();
+        assertThrows(RuntimeException.class, () -> this.postgres.withRetryingTransaction(RetryPolicy.none(), () -> {
+            unretried.incrementAndGet();
+            this.postgres.execute(new SQL("DO $$ BEGIN RAISE EXCEPTION SQLSTATE '40001'; END $$"));
+        }));
+        assertEquals(1, unretried.get());
+    }
+
+    @Test
+    @DisplayName("Should retry a transaction whose commit fails with a serialization failure")
+    void testRetryingTransactionCommitFailure() {
+        // A deferred constraint trigger fails the first COMMIT, as a serializable conflict detected at commit does
+        this.postgres.execute(new SQL("CREATE SEQUENCE commit_failures"));
+        this.postgres.execute(new SQL("""
+                CREATE FUNCTION fail_first_commit() RETURNS trigger AS $$
+                BEGIN
+                    IF nextval('commit_failures') = 1 THEN
+                        RAISE EXCEPTION 'could not serialize access' USING ERRCODE = '40001';
+                    END IF;
+                    RETURN NULL;
+                END $$ LANGUAGE plpgsql"""));
+        this.postgres.execute(new SQL("""
+                CREATE CONSTRAINT TRIGGER fail_first_commit AFTER INSERT ON book
+                DEFERRABLE INITIALLY DEFERRED FOR EACH ROW EXECUTE FUNCTION fail_first_commit()"""));
+        try {
+            final Book mangaBook = this.bookSample.mangaBook();
+            final var attempts = new AtomicInteger();
+
+            this.postgres.withRetryingTransaction(RetryPolicy.idempotent(), () -> {
+                attempts.incrementAndGet();
+                return this.insertBookReturningKey(mangaBook);
+            });
+
+            assertEquals(2, attempts.get());
+            assertEquals(1, this.postgres.selectFirst(new SQL("SELECT COUNT(*) FROM book"), Row::getFirstInt).orElse(0));
+        } finally {
+            this.postgres.execute(new SQL("DROP TRIGGER fail_first_commit ON book"));
+            this.postgres.execute(new SQL("DROP FUNCTION fail_first_commit()"));
+            this.postgres.execute(new SQL("DROP SEQUENCE commit_failures"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should fast-fail while the circuit is open and close it after a successful probe")
+    void testCircuitBreaker() throws InterruptedException {
+        final var circuitBreaker = new CircuitBreaker(true, 2, 10_000, 50, 1);
+        circuitBreaker.recordFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        circuitBreaker.recordFailure();
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        assertThrows(DatabaseUnavailableException.class, () -> circuitBreaker.acquire(this.dataSource));
+        assertEquals(1, circuitBreaker.getRejections());
+
+        // A probe failing with an unchecked exception opens the breaker again instead of leaving it half open
+        Thread.sleep(60);
+        final var brokenDataSource = (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(),
+                new Class<?>[]{DataSource.class}, (proxy, method, arguments) -> {
+                    throw new IllegalStateException("The pool is closed.");
+                });
+        assertThrows(IllegalStateException.class, () -> circuitBreaker.acquire(brokenDataSource));
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        Thread.sleep(60);
+        circuitBreaker.acquire(this.dataSource);
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    @DisplayName("Should route reads outside a transaction to the least busy replica")
+    void testReadReplicaRouting() throws SQLException {
+        final var readReplicas = new ReadReplicas(List.of(this.dataSource, this.dataSource),
+                ReadReplicas.Balancing.LEAST_OUTSTANDING, this.transactionManager, CircuitBreaker.disabled());
+
+        try (ReadReplicas.Route busy = readReplicas.route();
+             ReadReplicas.Route idle = readReplicas.route();
+             Connection connection = idle.getConnection()) {
+            assertTrue(busy.isReplica());
+            assertTrue(idle.isReplica());
+            assertTrue(connection.isValid(1));
+        }
+        assertEquals(2, readReplicas.getReplicaRoutes());
+
+        this.postgres.withTransaction(() -> {
+            try (ReadReplicas.Route route = readReplicas.route()) {
+                assertFalse(route.isReplica());
+            }
+        });
+        assertEquals(1, readReplicas.getPrimaryRoutes());
+    }
+
+    @Test
+    @DisplayName("Should open only the replica breaker on a replica outage and fall back to the primary")
+    void testReplicaCircuitBreaker() {
+        final DataSource unreachableReplica = (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(),
+                new Class<?>[] { DataSource.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("getConnection")) {
+                        throw new SQLException("Connection refused.", "08001");
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        final var primaryBreaker = new CircuitBreaker(true, 1, 10_000, 60_000, 1);
+        final var readReplicas = new ReadReplicas(List.of(unreachableReplica), ReadReplicas.Balancing.ROUND_ROBIN,
+                this.transactionManager, primaryBreaker);
+        final var postgres = new Postgres();
+        postgres.pool = this.dataSource;
+        postgres.statementCache = StatementCache.disabled();
+        postgres.circuitBreaker = primaryBreaker;
+        postgres.readReplicas = readReplicas;
+        postgres.executionObserver = ExecutionObserver.disabled();
+        postgres.resultCache = ResultCache.disabled();
+        postgres.invalidationBus = InvalidationBus.disabled();
+        postgres.bulkhead = Bulkhead.disabled();
+
+        final var sql = new SQL("SELECT 1");
+        assertThrows(DatabaseUnavailableException.class, () -> postgres.selectFirst(sql, Row::getFirstInt));
+        assertEquals(1, readReplicas.getUnavailableReplicas());
+        assertEquals(CircuitBreaker.State.CLOSED, primaryBreaker.getState());
+
+        assertEquals(Optional.of(1), postgres.selectFirst(sql, Row::getFirstInt));
+        assertEquals(1, readReplicas.getPrimaryRoutes());
+    }
+
+    @Test
+    @DisplayName("Should run inserts and selects asynchronously within the bulkhead")
+    void testAsync() {
+        final Book mangaBook = this.bookSample.mangaBook();
+        final UUID uuid = this.postgres.insertReturningUuidAsync(new SQL(INSERT_BOOK_SQL, new BookStatement(mangaBook)))
+                .toCompletableFuture().join();
+
+        final List<Book> books = this.postgres.selectAsync(new SQL("SELECT * FROM book"), new BookRowMapper())
+                .toCompletableFuture().join();
+
+        assertEquals(1, books.size());
+        assertEquals(uuid, books.get(0).uuid());
+
+        // A synchronous stream keeps its permit until it is closed, a query nested on the same thread shares it
+        final int availablePermits = this.bulkhead.getAvailablePermits();
+        try (Stream<Book> stream = this.postgres.stream(new SQL("SELECT * FROM book"), new BookRowMapper())) {
+            assertEquals(availablePermits - 1, this.bulkhead.getAvailablePermits());
+            assertEquals(1, this.postgres.select(new SQL("SELECT * FROM book"), new BookRowMapper()).size());
+            assertEquals(availablePermits - 1, this.bulkhead.getAvailablePermits());
+            assertEquals(1, stream.count());
+        }
+        assertEquals(availablePermits, this.bulkhead.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("Should emit reactive results and pull cursor rows only as they are requested")
+    void testReactive() {
+        final Book mangaBook = this.bookSample.mangaBook();
+        final UUID uuid = this.reactivePostgres.insertReturningUuid(new SQL(INSERT_BOOK_SQL, new BookStatement(mangaBook)))
+                .await().atMost(Duration.ofSeconds(5));
+        this.postgres.withTransaction(() -> insertBooks(4));
+
+        final Optional<Book> book = this.reactivePostgres.selectFirst(
+                new SQL("SELECT * FROM book WHERE uuid = ?", uuid), new BookRowMapper())
+                .await().atMost(Duration.ofSeconds(5));
+        assertEquals(uuid, book.orElseThrow().uuid());
+
+        final int availablePermits = this.bulkhead.getAvailablePermits();
+        final AssertSubscriber<Book> subscriber = this.reactivePostgres.select(
+                new SQL("SELECT * FROM book ORDER BY title"), new BookRowMapper(), 2)
+                .subscribe().withSubscriber(AssertSubscriber.create(3));
+        subscriber.awaitItems(3);
+        assertEquals(3, subscriber.getItems().size());
+        assertEquals(availablePermits - 1, this.bulkhead.getAvailablePermits());
+
+        subscriber.request(10);
+        subscriber.awaitCompletion(Duration.ofSeconds(5));
+        assertEquals(5, subscriber.getItems().size());
+        assertEquals(availablePermits, this.bulkhead.getAvailablePermits());
+
+        final AssertSubscriber<Book> cancelled = this.reactivePostgres.select(
+                new SQL("SELECT * FROM book ORDER BY title"), new BookRowMapper(), 2)
+                .subscribe().withSubscriber(AssertSubscriber.create(1));
+        cancelled.awaitItems(1);
+        cancelled.cancel();
+        assertEquals(1, cancelled.getItems().size());
+
+        final AssertSubscriber<Book> exact = this.reactivePostgres.select(
+                new SQL("SELECT * FROM book ORDER BY title"), new BookRowMapper(), 2)
+                .subscribe().withSubscriber(AssertSubscriber.create(5));
+        exact.awaitCompletion(Duration.ofSeconds(5));
+        assertEquals(5, exact.getItems().size());
+
+        final int updated = this.reactivePostgres.update(new SQL("UPDATE book SET in_stock = NOT in_stock"))
+                .await().atMost(Duration.ofSeconds(5));
+        assertEquals(5, updated);
+    }
+
+    @Test
+    @DisplayName("Should run independent queries in parallel and cancel them on the first failure")
+    void testParallel() {
+        this.postgres.withTransaction(() -> insertBooks(3));
+
+        final var countQuery = new ParallelQuery<>(new SQL("SELECT COUNT(*) FROM book"), Row::getFirstInt);
+        final var booksQuery = new ParallelQuery<>(new SQL("SELECT * FROM book ORDER BY title"), new BookRowMapper());
+        final ParallelResults results = this.postgres.parallel(Duration.ofSeconds(5), countQuery, booksQuery);
+
+        assertEquals(List.of(3), results.get(countQuery));
+        assertEquals(3, results.get(booksQuery).size());
+
+        final long start = System.nanoTime();
+        assertThrows(RuntimeException.class, () -> this.postgres.parallel(Duration.ofSeconds(30),
+                new ParallelQuery<>(new SQL("SELECT pg_sleep(10)"), Row::getFirstString),
+                new ParallelQuery<>(new SQL("SELECT 1 / 0"), Row::getFirstInt)));
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toSeconds() < 10);
+    }
+
+    @Test
+    @DisplayName("Should record query timers and row counts tagged by the query name")
+    void testQueryMetrics() {
+        final var registry = new SimpleMeterRegistry();
+        final var observer = new ExecutionObserver(new ExecutionListener[] {
+                new MicrometerExecutionListener(registry, true, false) });
+        final var sql = new SQL("SELECT * FROM book WHERE title = 'Naruto'").named("books.by-title");
+
+        final Execution execution = observer.start(Operation.SELECT, new Query(sql, 10, 0));
+        execution.connected();
+        execution.executed();
+        execution.rows(3);
+        execution.complete();
+
+        assertEquals(1, registry.get("postgres.query").tag("query", "books.by-title")
+                .tag("outcome", "success").timer().count());
+        assertEquals(3, registry.get("postgres.query.rows").tag("query", "books.by-title").summary().totalAmount());
+        assertEquals(new SQL("SELECT * FROM book WHERE title = 'Bleach'").getName(),
+                new SQL("SELECT *\n  FROM book WHERE title = 'Naruto'").getName());
+    }
+
+    @Test
+    @DisplayName("Should log slow queries with redacted bind parameters")
+    void testSlowQueryLog() {
+        final var slowQueryLog = new SlowQueryLogListener(true, 0, 0, true);
+        final var observer = new ExecutionObserver(new ExecutionListener[] { slowQueryLog });
+        final var sql = new SQL("SELECT * FROM book WHERE title = ?", "Naruto").named("books.by-title");
+
+        final Execution execution = observer.start(Operation.SELECT, sql);
+        execution.parameters().add("Naruto");
+        execution.parameters().add(null);
+        execution.rows(1);
+        execution.complete();
+
+        final String message = slowQueryLog.describe(execution);
+        assertEquals(1, slowQueryLog.getSlowQueries());
+        assertTrue(message.startsWith("books.by-title (select)"));
+        assertTrue(message.contains("parameters=[<String>, null]"));
+        assertFalse(message.contains("Naruto"));
+    }
+
+    @Test
+    @DisplayName("Should trace statements as children of the transaction span")
+    void testTracing() {
+        final List<SpanData> spans = new CopyOnWriteArrayList<>();
+        final var tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(new SpanExporter() {
+                    @Override
+                    public CompletableResultCode export(final Collection<SpanData> exported) {
+                        spans.addAll(exported);
+                        return CompletableResultCode.ofSuccess();
+                    }
+
+                    @Override
+                    public CompletableResultCode flush() {
+                        return CompletableResultCode.ofSuccess();
+                    }
+
+                    @Override
+                    public CompletableResultCode shutdown() {
+                        return CompletableResultCode.ofSuccess();
+                    }
+                }))
+                .build();
+        final var observer = new ExecutionObserver(new ExecutionListener[] {
+                new TracingExecutionListener(tracerProvider.get("postgres"), true) });
+        final var sql = new SQL("UPDATE book SET in_stock = false\n WHERE title = 'Naruto'").named("books.out-of-stock");
+
+        final Execution transaction = observer.startTransaction(Transactional.TxType.REQUIRED);
+        final Execution execution = observer.start(Operation.UPDATE, sql);
+        execution.rows(2);
+        execution.fallback();
+        execution.complete();
+        transaction.complete();
+
+        assertEquals(2, spans.size());
+        final SpanData statementSpan = spans.get(0);
+        final SpanData transactionSpan = spans.get(1);
+        assertEquals("books.out-of-stock", statementSpan.getName());
+        assertEquals(transactionSpan.getSpanId(), statementSpan.getParentSpanId());
+        assertEquals("UPDATE book SET in_stock = false WHERE title = 'Naruto'",
+                statementSpan.getAttributes().get(AttributeKey.stringKey("db.statement")));
+        assertEquals(2L, statementSpan.getAttributes().get(AttributeKey.longKey("db.postgres.rows")));
+        assertEquals(true, statementSpan.getAttributes().get(AttributeKey.booleanKey("db.postgres.violation_fallback")));
+        assertEquals("REQUIRED", transactionSpan.getAttributes().get(AttributeKey.stringKey("db.postgres.transaction_type")));
+    }
+
+    @Test
+    @DisplayName("Should serve cached results until a dependent table is written")
+    void testResultCache() {
+        final var cachePolicy = CachePolicy.of("books-in-stock", Duration.ofMinutes(1), "book");
+        final var sql = new SQL("SELECT COUNT(*) FROM book WHERE in_stock = ?", statement -> statement.setBoolean(true));
+        this.postgres.withTransaction(() -> this.insertBooks(3));
+
+        assertEquals(3, this.postgres.selectFirst(sql, Row::getFirstInt, cachePolicy).orElse(0));
+        final long hits = this.resultCache.getHits();
+        assertEquals(3, this.postgres.selectFirst(sql, Row::getFirstInt, cachePolicy).orElse(0));
+        assertEquals(hits + 1, this.resultCache.getHits());
+
+        this.postgres.withTransaction(() -> this.postgres.update(new SQL("UPDATE book SET in_stock = false")));
+
+        assertEquals(0, this.postgres.selectFirst(sql, Row::getFirstInt, cachePolicy).orElse(0));
+        assertEquals(hits + 1, this.resultCache.getHits());
+
+        // Another key keeps the same statement mapped to another type apart
+        assertEquals(Optional.of("0"), this.postgres.selectFirst(sql, Row::getFirstString,
+                CachePolicy.of("books-in-stock-long", Duration.ofMinutes(1), "book")));
+        assertEquals(hits + 1, this.resultCache.getHits());
+
+        final var pipeline = new Pipeline();
+        pipeline.update(new SQL("UPDATE book SET in_stock = true"));
+        this.postgres.withTransaction(() -> this.postgres.pipeline(pipeline));
+        assertEquals(3, this.postgres.selectFirst(sql, Row::getFirstInt, cachePolicy).orElse(0));
+
+        final Book mangaBook = this.bookSample.mangaBook();
+        final var table = new CopyTable("book", "title", "author", "genre", "publisher", "publish_year",
+                "in_stock", "created_at");
+        final CopyRecordHandler<Book> recordHandler = (book, record) -> {
+            record.setString("copied");
+            record.setString(book.author());
+            record.setString(book.genre());
+            record.setString(book.publisher());
+            record.setShort(book.publishYear());
+            record.setBoolean(true);
+            record.setLocalDateTime(book.createdAt());
+        };
+        this.postgres.withTransaction(() -> this.postgres.copyIn(table, List.of(mangaBook).iterator(), recordHandler));
+        assertEquals(4, this.postgres.selectFirst(sql, Row::getFirstInt, cachePolicy).orElse(0));
+        assertEquals(hits + 1, this.resultCache.getHits());
+
+        assertEquals(List.of(), ResultCache.writtenTables(new SQL("SELECT * FROM book FOR NO KEY UPDATE SKIP LOCKED")));
+        assertEquals(List.of("book"), ResultCache.writtenTables(new SQL("UPDATE book SET in_stock = true")));
+        assertThrows(IllegalArgumentException.class, () -> CachePolicy.of(" ", Duration.ofMinutes(1), "book"));
+    }
+
+    @Test
+    @DisplayName("Should broadcast committed writes over LISTEN/NOTIFY and skip the ones this node sent")
+    void testInvalidationNotifications() throws Exception {
+        final List<InvalidationEvent> events = new CopyOnWriteArrayList<>();
+        final var latch = new CountDownLatch(2);
+        try (AutoCloseable subscription = this.invalidationBus.subscribe(event -> {
+            events.add(event);
+            latch.countDown();
+        })) {
+            final long published = this.invalidationBus.getPublished();
+            this.postgres.withTransaction(() -> this.postgres.update(new SQL("UPDATE book SET in_stock = false")));
+            this.postgres.withTransaction(() -> {
+                try {
+                    this.invalidationBus.publish("public.book", "42");
+                } catch (SQLException exception) {
+                    throw new RuntimeException(exception);
+                }
+            });
+            assertEquals(published + 2, this.invalidationBus.getPublished());
+
+            // Sent as another node would, after this node's own notifications on the same channel
+            final var notify = "SELECT pg_notify('postgres_cache_invalidation', ?)";
+            this.postgres.execute(new SQL(notify, statement -> statement.setString("other-node:book")));
+            this.postgres.execute(new SQL(notify, statement -> statement.setString("other-node:book:42")));
+
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        }
+        assertEquals(List.of(new InvalidationEvent("book", null), new InvalidationEvent("book", "42")), events);
+    }
+
+    @Test
+    @DisplayName("Should map a check constraint violation to a typed exception")
+    void testCheckViolation() {
+        this.postgres.execute(new SQL("ALTER TABLE book ADD CONSTRAINT book_publish_year_check CHECK (publish_year > 0)"));
+
+        final Book mangaBook = this.bookSample.mangaBook();
+        final var book = new Book(mangaBook.title(), mangaBook.author(), mangaBook.genre(), mangaBook.publisher(),
+                (short) -1, mangaBook.inStock(), mangaBook.createdAt());
+
+        final var exception = assertThrows(CheckViolationException.class, () ->
+                this.postgres.withTransaction(() -> this.insertBook(book)));
+
+        assertEquals("book_publish_year_check", exception.getConstraint());
+    }
+
     private boolean insertBooks(final int n) {
         final Book mangaBook = this.bookSample.mangaBook();
         final String originalTitle = mangaBook.title();
@@ -0,0 +1,18 @@
+package com.github.jdbc.api.book;
+
+import com.github.jdbc.api.mapper.Column;
+import com.github.jdbc.api.mapper.RowRecord;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@RowRecord
+public record BookRecord(@Column(bind = false) UUID uuid,
+                         String title,
+                         String author,
+                         String genre,
+                         String publisher,
+                         short publishYear,
+                         boolean inStock,
+                         LocalDateTime createdAt) {
+}